@@ -1,11 +1,22 @@
 package com.qa.api;
 
+import java.io.IOException;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.qa.api.stub.StubServer;
 import com.qa.utils.ConfigManager;
+import com.qa.utils.ConfigSnapshot;
+import com.qa.utils.SharedObjectMapper;
 
 import io.restassured.RestAssured;
 import io.restassured.http.ContentType;
@@ -18,33 +29,117 @@ import io.restassured.specification.RequestSpecification;
  * Supports GET, POST, PUT, PATCH, DELETE with header, body, path-param,
  * and query-param configuration. All public methods return {@code this}
  * for chaining except the terminal HTTP methods which return a Response.
+ * Every client shares one keep-alive connection pool ({@link HttpConnectionPool}),
+ * or with api.http.version = 2 one multiplexing {@link Http2Transport}.
+ * Typed variants map 2xx bodies straight onto DTOs, and the *Json variants
+ * send pre-serialized bytes so fixed payloads are never re-serialized.
+ * Paginated collections are streamed page by page via {@link #paginate}.
+ * Base URL and timeout come from the environment bound to the creating
+ * thread ({@link ConfigManager#bindEnvironment(String)}).
+ * With api.stub.enabled the first client starts the embedded {@link StubServer};
+ * with api.cassette.mode each client records into or replays from its
+ * feature's {@link Cassette}. Each call runs through a {@link ResiliencePolicy}:
+ * by default idempotent calls are retried on transient failures and a host
+ * that keeps failing is cut off by its {@link CircuitBreaker}.
  */
 public class APIClient {
 
     private static final Logger logger = LogManager.getLogger(APIClient.class);
-    private static final String BASE_URL = ConfigManager.getAPIBaseURL();
+    private static final int PREVIEW_CHARS = ConfigManager.getAPIResponsePreviewChars();
+    private static final ResiliencePolicy DEFAULT_POLICY = ResiliencePolicy.fromConfig();
 
     private RequestSpecification requestSpec;
+    private final ConfigSnapshot environment;
+    private final Cassette cassette;
+    private ResiliencePolicy policy = DEFAULT_POLICY;
+
+    // Recorded so follow-up requests (e.g. further pages) can be built with the same settings
+    private final Map<String, String> headers = new LinkedHashMap<>();
+    private final Map<String, Object> pathParams = new LinkedHashMap<>();
+    private final Map<String, Object> queryParams = new LinkedHashMap<>();
 
     public APIClient() {
+        this(Cassette.forCurrentScenario().orElse(null));
+    }
+
+    /**
+     * @param cassette Cassette to record into or replay from, or null for the live network;
+     *                 resolved by the caller so clients built on worker threads keep the scenario's cassette
+     */
+    APIClient(Cassette cassette) {
+        this(cassette, ConfigManager.snapshot());
+    }
+
+    /**
+     * @param cassette    Cassette to record into or replay from, or null for the live network
+     * @param environment Configuration whose base URL and timeout apply; resolved by the
+     *                    caller so clients built on worker threads keep the scenario's environment
+     */
+    APIClient(Cassette cassette, ConfigSnapshot environment) {
+        if (environment.stub().enabled()) {
+            StubServer.start();
+        }
+        this.environment = environment;
+        this.cassette = cassette;
+        ConfigSnapshot.Api api = environment.api();
         requestSpec = RestAssured.given()
-                .baseUri(BASE_URL)
+                .config(HttpConnectionPool.config(api.timeoutMillis()))
+                .baseUri(api.baseUrl())
                 .contentType(ContentType.JSON)
                 .accept(ContentType.JSON);
+        if (cassette != null) {
+            requestSpec = requestSpec.filter(cassette);
+        }
+        if (api.http2()) {
+            requestSpec = requestSpec.filter(Http2Transport.get(api.timeoutMillis()));
+        }
+    }
+
+    /** @return Utilization and connection-reuse metrics of the shared HTTP pool */
+    public static HttpPoolStats getPoolStats() {
+        return HttpConnectionPool.stats();
+    }
+
+    /**
+     * @param scenarioId Scenario whose total to take
+     * @return Milliseconds the scenario's requests waited for the client-side rate limiter;
+     *         the total is reset
+     */
+    public static long takeThrottledMillis(String scenarioId) {
+        return RateLimiter.takeThrottledMillis(scenarioId);
+    }
+
+    /** @return Retries and circuit-breaker activity across all clients */
+    public static ResilienceStats getResilienceStats() {
+        return ResilienceStats.snapshot();
+    }
+
+    /** Write recorded cassettes now; call once the test run has finished. No-op unless recording. */
+    public static void saveCassettes() {
+        Cassette.saveAll();
     }
 
     // -------------------------------------------------------------------------
     // Builder methods
     // -------------------------------------------------------------------------
 
+    /** Replace the configured retry/circuit-breaker policy, e.g. with {@link ResiliencePolicy#none()}. */
+    public APIClient withResiliencePolicy(ResiliencePolicy policy) {
+        this.policy = policy;
+        logger.debug("Resilience policy set");
+        return this;
+    }
+
     public APIClient addHeader(String key, String value) {
         requestSpec = requestSpec.header(key, value);
+        this.headers.put(key, value);
         logger.debug("Added header: {}", key);
         return this;
     }
 
     public APIClient addHeaders(Map<String, String> headers) {
         requestSpec = requestSpec.headers(headers);
+        this.headers.putAll(headers);
         logger.debug("Added {} headers", headers.size());
         return this;
     }
@@ -55,14 +150,23 @@ public class APIClient {
         return this;
     }
 
+    /** Send pre-serialized bytes as-is; REST-Assured would otherwise serialize the array itself. */
+    public APIClient setBody(byte[] body) {
+        requestSpec = requestSpec.body(body);
+        logger.debug("Request body set ({} bytes)", body.length);
+        return this;
+    }
+
     public APIClient addPathParam(String key, Object value) {
         requestSpec = requestSpec.pathParam(key, value);
+        pathParams.put(key, value);
         logger.debug("Added path param: {}={}", key, value);
         return this;
     }
 
     public APIClient addQueryParam(String key, Object value) {
         requestSpec = requestSpec.queryParam(key, value);
+        queryParams.put(key, value);
         logger.debug("Added query param: {}={}", key, value);
         return this;
     }
@@ -72,46 +176,181 @@ public class APIClient {
     // -------------------------------------------------------------------------
 
     public Response get(String endpoint) {
-        logger.info("GET {}", endpoint);
-        Response response = requestSpec.get(endpoint);
-        logResponse(response);
-        return response;
+        return send("GET", endpoint, spec -> spec.get(endpoint));
     }
 
     public Response post(String endpoint) {
-        logger.info("POST {}", endpoint);
-        Response response = requestSpec.post(endpoint);
-        logResponse(response);
-        return response;
+        return send("POST", endpoint, spec -> spec.post(endpoint));
     }
 
     public Response put(String endpoint) {
-        logger.info("PUT {}", endpoint);
-        Response response = requestSpec.put(endpoint);
-        logResponse(response);
-        return response;
+        return send("PUT", endpoint, spec -> spec.put(endpoint));
     }
 
     public Response patch(String endpoint) {
-        logger.info("PATCH {}", endpoint);
-        Response response = requestSpec.patch(endpoint);
-        logResponse(response);
-        return response;
+        return send("PATCH", endpoint, spec -> spec.patch(endpoint));
     }
 
     public Response delete(String endpoint) {
-        logger.info("DELETE {}", endpoint);
-        Response response = requestSpec.delete(endpoint);
-        logResponse(response);
-        return response;
+        return send("DELETE", endpoint, spec -> spec.delete(endpoint));
+    }
+
+    // -------------------------------------------------------------------------
+    // Typed and pre-serialized HTTP methods
+    // -------------------------------------------------------------------------
+
+    public <T> T get(String endpoint, Class<T> type) {
+        return read(get(endpoint), "GET", endpoint, SharedObjectMapper.get().constructType(type));
+    }
+
+    public <T> T get(String endpoint, TypeReference<T> type) {
+        return read(get(endpoint), "GET", endpoint, SharedObjectMapper.get().constructType(type));
+    }
+
+    public Response postJson(String endpoint, byte[] json) {
+        return setBody(json).post(endpoint);
+    }
+
+    public Response putJson(String endpoint, byte[] json) {
+        return setBody(json).put(endpoint);
+    }
+
+    public <T> T postJson(String endpoint, byte[] json, Class<T> type) {
+        return read(postJson(endpoint, json), "POST", endpoint, SharedObjectMapper.get().constructType(type));
+    }
+
+    /**
+     * Serialize a payload once for reuse across many requests.
+     *
+     * @param body Any Jackson-serializable object
+     * @return JSON bytes for {@link #postJson(String, byte[])} / {@link #putJson(String, byte[])}
+     */
+    public static byte[] toJson(Object body) {
+        try {
+            return SharedObjectMapper.get().writeValueAsBytes(body);
+        } catch (IOException e) {
+            throw new RuntimeException("Cannot serialize request body of type " + body.getClass().getName(), e);
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // Paginated collections
+    // -------------------------------------------------------------------------
+
+    /**
+     * Stream every record of a paginated collection. Pages are fetched on
+     * demand with the next page prefetched, so memory stays bounded by two
+     * pages. Close the stream (try-with-resources) when abandoning it early.
+     *
+     * @param endpoint Collection endpoint
+     * @param strategy How the endpoint pages its records
+     * @return Lazy, ordered stream of records
+     */
+    public Stream<JsonNode> paginate(String endpoint, PaginationStrategy strategy) {
+        logger.info("PAGINATE {} ({})", endpoint, strategy);
+        Paginator paginator = new Paginator(copy(true), strategy, endpoint);
+        return StreamSupport.stream(paginator, false).onClose(paginator::close);
+    }
+
+    public <T> Stream<T> paginate(String endpoint, PaginationStrategy strategy, Class<T> type) {
+        return paginate(endpoint, strategy).map(record -> {
+            try {
+                return SharedObjectMapper.get().treeToValue(record, type);
+            } catch (IOException e) {
+                throw new RuntimeException("Cannot map paginated record to " + type.getName(), e);
+            }
+        });
+    }
+
+    /** Send request URLs exactly as given — for server-provided, already-encoded links. */
+    APIClient verbatimUrls() {
+        requestSpec = requestSpec.urlEncodingEnabled(false);
+        return this;
+    }
+
+    /**
+     * @param withQueryParams false when the next request URL already carries its query
+     * @return Fresh client with this client's headers and path params (no body)
+     */
+    APIClient copy(boolean withQueryParams) {
+        APIClient copy = new APIClient(cassette, environment);
+        copy.policy = policy;
+        headers.forEach(copy::addHeader);
+        pathParams.forEach(copy::addPathParam);
+        if (withQueryParams) {
+            queryParams.forEach(copy::addQueryParam);
+        }
+        return copy;
     }
 
     // -------------------------------------------------------------------------
     // Internal
     // -------------------------------------------------------------------------
 
+    private <T> T read(Response response, String method, String endpoint, JavaType type) {
+        int status = response.getStatusCode();
+        if (status < 200 || status >= 300) {
+            throw new IllegalStateException(method + " " + endpoint + " returned " + status
+                    + "; cannot map body to " + type + ". Body: " + ResponseBody.preview(response, PREVIEW_CHARS));
+        }
+        try {
+            return SharedObjectMapper.get().readValue(response.asByteArray(), type);
+        } catch (IOException e) {
+            throw new RuntimeException("Cannot map " + method + " " + endpoint + " response to " + type, e);
+        }
+    }
+
+    /**
+     * Execute one request under the client's {@link ResiliencePolicy}; each
+     * attempt waits for the {@link RateLimiter}, then is logged and timed, and
+     * timings feed the {@link LatencyRecorder} when it is active. The body is
+     * buffered inside the timed section, so the timings include the transfer,
+     * and at every log level: REST-Assured only hands the pooled connection
+     * back once the entity has been read, so a response nobody reads would
+     * otherwise keep its connection leased.
+     */
+    private Response send(String method, String endpoint, Function<RequestSpecification, Response> call) {
+        String host = host(environment.api().baseUrl(), endpoint);
+        ResiliencePolicy.Call request = new ResiliencePolicy.Call(method, host, endpoint);
+        return policy.execute(request, () -> attempt(request.host(), method, endpoint, call));
+    }
+
+    private Response attempt(String host, String method, String endpoint,
+                             Function<RequestSpecification, Response> call) {
+        if (cassette == null || !cassette.replays()) {
+            RateLimiter.acquire(host, endpoint);
+        }
+        logger.info("{} {}", method, endpoint);
+        long start = System.nanoTime();
+        Response response;
+        try {
+            response = call.apply(requestSpec);
+            response.asByteArray();
+        } catch (RuntimeException e) {
+            LatencyRecorder.record(method, endpoint, System.nanoTime() - start, true);
+            throw e;
+        }
+        LatencyRecorder.record(method, endpoint, System.nanoTime() - start, response.getStatusCode() >= 400);
+        logResponse(response);
+        return response;
+    }
+
+    /** @return host[:port] of an absolute endpoint, else of the base URL */
+    private static String host(String baseUrl, String endpoint) {
+        String url = endpoint.startsWith("http://") || endpoint.startsWith("https://") ? endpoint : baseUrl;
+        int start = url.indexOf("//") + 2;
+        int end = start;
+        while (end < url.length() && "/?#".indexOf(url.charAt(end)) < 0) {
+            end++;
+        }
+        return url.substring(start, end);
+    }
+
+    /** Log the status, and a preview decoded from the buffered body at DEBUG. */
     private void logResponse(Response response) {
         logger.info("Response status: {}", response.getStatusCode());
-        logger.debug("Response body: {}", response.getBody().asString());
+        if (logger.isDebugEnabled()) {
+            logger.debug("Response body: {}", ResponseBody.preview(response, PREVIEW_CHARS));
+        }
     }
 }
@@ -0,0 +1,76 @@
+package com.qa.api;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import io.restassured.http.Header;
+import io.restassured.path.json.JsonPath;
+import io.restassured.response.Response;
+
+/**
+ * APIResponse — immutable snapshot of an HTTP response, safe to hand across threads.
+ *
+ * REST-Assured's Response is tied to the request that produced it; this
+ * record copies out everything an assertion needs so async callers can
+ * inspect results after the request thread is gone. The body is taken over
+ * rather than shared, so once the Response is dropped a large payload lives
+ * only in its spill file.
+ *
+ * @param method        HTTP verb of the request
+ * @param endpoint      Endpoint path the request was sent to
+ * @param statusCode    HTTP status code
+ * @param headers       Response headers (name → values)
+ * @param body          Response payload, read once (spilled to disk when large)
+ * @param elapsedMillis Wall-clock request time in milliseconds
+ */
+public record APIResponse(String method, String endpoint, int statusCode,
+                          Map<String, List<String>> headers, ResponseBody body, long elapsedMillis) {
+
+    public APIResponse {
+        headers = Map.copyOf(headers);
+    }
+
+    /**
+     * Copy a REST-Assured response.
+     *
+     * @param method   HTTP verb of the request
+     * @param endpoint Endpoint path the request was sent to
+     * @param response Response to snapshot
+     * @return Immutable copy
+     */
+    public static APIResponse from(String method, String endpoint, Response response) {
+        Map<String, List<String>> headers = response.getHeaders().asList().stream()
+                .collect(Collectors.groupingBy(Header::getName,
+                        Collectors.mapping(Header::getValue, Collectors.toUnmodifiableList())));
+        return new APIResponse(method, endpoint, response.getStatusCode(), headers,
+                ResponseBody.of(response), response.getTime());
+    }
+
+    /** @return true for 2xx status codes */
+    public boolean isSuccess() {
+        return statusCode >= 200 && statusCode < 300;
+    }
+
+    /**
+     * @param name Header name (case-insensitive)
+     * @return First value of the header, or null when absent
+     */
+    public String header(String name) {
+        return headers.entrySet().stream()
+                .filter(entry -> entry.getKey().equalsIgnoreCase(name))
+                .map(entry -> entry.getValue().get(0))
+                .findFirst()
+                .orElse(null);
+    }
+
+    /** @return GPath view of the JSON body */
+    public JsonPath jsonPath() {
+        return new JsonPath(body.asString());
+    }
+
+    @Override
+    public String toString() {
+        return method + " " + endpoint + " → " + statusCode + " (" + elapsedMillis + " ms)";
+    }
+}
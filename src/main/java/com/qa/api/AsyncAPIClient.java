@@ -0,0 +1,130 @@
+package com.qa.api;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.qa.utils.ConfigManager;
+import com.qa.utils.ConfigSnapshot;
+import com.qa.utils.ScenarioContext;
+
+import io.restassured.response.Response;
+
+/**
+ * AsyncAPIClient — non-blocking counterpart of {@link APIClient} for fan-out calls.
+ *
+ * Every request runs on its own virtual thread and completes a
+ * CompletableFuture with an immutable {@link APIResponse}. A process-wide
+ * semaphore caps the requests in flight (api.async.max-in-flight) so large
+ * batches queue cheaply on virtual threads instead of exhausting the shared
+ * connection pool. Headers, query params, the scenario's cassette and the
+ * bound environment are captured when each request is submitted, and the
+ * submitting scenario is bound to the virtual thread so per-scenario
+ * accounting still applies.
+ */
+public class AsyncAPIClient {
+
+    private static final Logger logger = LogManager.getLogger(AsyncAPIClient.class);
+    private static final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private static final Semaphore inFlight = new Semaphore(ConfigManager.getAPIMaxInFlight(), true);
+
+    private final Map<String, String> headers = new LinkedHashMap<>();
+    private final Map<String, Object> queryParams = new LinkedHashMap<>();
+
+    // -------------------------------------------------------------------------
+    // Builder methods
+    // -------------------------------------------------------------------------
+
+    public AsyncAPIClient addHeader(String key, String value) {
+        headers.put(key, value);
+        logger.debug("Added header: {}", key);
+        return this;
+    }
+
+    public AsyncAPIClient addQueryParam(String key, Object value) {
+        queryParams.put(key, value);
+        logger.debug("Added query param: {}={}", key, value);
+        return this;
+    }
+
+    // -------------------------------------------------------------------------
+    // Async HTTP methods
+    // -------------------------------------------------------------------------
+
+    public CompletableFuture<APIResponse> get(String endpoint) {
+        return submit("GET", endpoint, client -> client.get(endpoint));
+    }
+
+    public CompletableFuture<APIResponse> post(String endpoint, Object body) {
+        return submit("POST", endpoint, client -> client.setBody(body).post(endpoint));
+    }
+
+    public CompletableFuture<APIResponse> put(String endpoint, Object body) {
+        return submit("PUT", endpoint, client -> client.setBody(body).put(endpoint));
+    }
+
+    public CompletableFuture<APIResponse> patch(String endpoint, Object body) {
+        return submit("PATCH", endpoint, client -> client.setBody(body).patch(endpoint));
+    }
+
+    public CompletableFuture<APIResponse> delete(String endpoint) {
+        return submit("DELETE", endpoint, client -> client.delete(endpoint));
+    }
+
+    /**
+     * GET every endpoint concurrently.
+     *
+     * @param endpoints Endpoint paths
+     * @return Future of all responses, in the order of {@code endpoints};
+     *         fails with the first request failure
+     */
+    public CompletableFuture<List<APIResponse>> getAll(List<String> endpoints) {
+        List<CompletableFuture<APIResponse>> futures = endpoints.stream().map(this::get).toList();
+        return CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+                .thenApply(ignored -> futures.stream().map(CompletableFuture::join).toList());
+    }
+
+    // -------------------------------------------------------------------------
+    // Internal
+    // -------------------------------------------------------------------------
+
+    private CompletableFuture<APIResponse> submit(String method, String endpoint,
+            Function<APIClient, Response> call) {
+        // Not Map.copyOf: APIClient accepts null values, so the async client must as well
+        Map<String, String> requestHeaders = Collections.unmodifiableMap(new LinkedHashMap<>(headers));
+        Map<String, Object> requestParams = Collections.unmodifiableMap(new LinkedHashMap<>(queryParams));
+        Cassette cassette = Cassette.forCurrentScenario().orElse(null);
+        ConfigSnapshot environment = ConfigManager.snapshot();
+        Optional<ScenarioContext> scenario = ScenarioContext.current();
+        return CompletableFuture.supplyAsync(() -> {
+            scenario.ifPresent(ScenarioContext::bind);
+            try {
+                inFlight.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                ScenarioContext.unbind();
+                throw new CompletionException("Interrupted while waiting to send " + method + " " + endpoint, e);
+            }
+            try {
+                APIClient client = new APIClient(cassette, environment);
+                requestHeaders.forEach(client::addHeader);
+                requestParams.forEach(client::addQueryParam);
+                return APIResponse.from(method, endpoint, call.apply(client));
+            } finally {
+                inFlight.release();
+                ScenarioContext.unbind();
+            }
+        }, executor);
+    }
+}
@@ -0,0 +1,352 @@
+package com.qa.api;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.qa.utils.ConfigManager;
+import com.qa.utils.ScenarioContext;
+import com.qa.utils.SharedObjectMapper;
+
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.http.Header;
+import io.restassured.http.Headers;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+/**
+ * Cassette — per-feature recorded API interactions for offline, CPU-bound runs.
+ *
+ * api.cassette.mode selects the behaviour:
+ * <ul>
+ *   <li>off    — real network (default)</li>
+ *   <li>record — every request goes out and its response is captured into
+ *                &lt;cassette.dir&gt;/&lt;feature-path&gt;.jsonl when the test run
+ *                finishes ({@link APIClient#saveCassettes()}), or at the
+ *                latest when the JVM exits</li>
+ *   <li>replay — responses are served from memory without opening a socket;
+ *                a request with no recorded interaction fails the scenario</li>
+ * </ul>
+ * Interactions are keyed by method, path, sorted query and a hash of the
+ * request body. JSON bodies are hashed in canonical form (sorted keys) with
+ * api.cassette.ignored-body-fields removed, so per-run values such as
+ * generated emails do not break matching. Newer recordings replace older
+ * ones with the same key. Cassettes are JSON Lines, one interaction per line.
+ */
+final class Cassette implements Filter {
+
+    private static final Logger logger = LogManager.getLogger(Cassette.class);
+    private static final ObjectMapper MAPPER = SharedObjectMapper.get();
+    private static final ObjectWriter CANONICAL = MAPPER.writer().with(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS);
+    private static final Set<String> TRANSPORT_HEADERS = Set.of("date", "connection", "keep-alive",
+            "transfer-encoding", "content-length", "content-encoding", "age", "via", "alt-svc",
+            "report-to", "nel", "server-timing", "cf-ray", "cf-cache-status");
+
+    enum Mode { OFF, RECORD, REPLAY }
+
+    private static final Mode MODE = resolveMode();
+    private static final Set<String> IGNORED_BODY_FIELDS = Set.copyOf(ConfigManager.getAPICassetteIgnoredBodyFields());
+    private static final Map<Path, Cassette> cassettes = new ConcurrentHashMap<>();
+
+    static {
+        if (MODE == Mode.RECORD) {
+            Runtime.getRuntime().addShutdownHook(new Thread(Cassette::saveOnExit, "cassette-save"));
+        }
+    }
+
+    private final Path file;
+    private final boolean existed;
+    private final Map<String, Interaction> interactions;
+    private final LongAdder recorded = new LongAdder();
+    private long savedRecorded;
+
+    /**
+     * One recorded request/response pair; exactly one of json, text or base64
+     * holds the response body (none when it was empty).
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    record Interaction(String method, String uri, String bodyHash, int status,
+                       Map<String, List<String>> headers, JsonNode json, String text, String base64) {
+
+        String key() {
+            return Cassette.key(method, uri, bodyHash);
+        }
+    }
+
+    private Cassette(Path file, boolean existed, Map<String, Interaction> interactions) {
+        this.file = file;
+        this.existed = existed;
+        this.interactions = interactions;
+    }
+
+    /**
+     * @return The current scenario's feature cassette, or empty when cassettes are off
+     * @throws IllegalStateException if cassettes are on but no scenario is bound to this thread
+     */
+    static Optional<Cassette> forCurrentScenario() {
+        if (MODE == Mode.OFF) {
+            return Optional.empty();
+        }
+        ScenarioContext scenario = ScenarioContext.current().orElseThrow(() -> new IllegalStateException(
+                "Cassette " + MODE.name().toLowerCase(Locale.ROOT) + " mode needs a bound scenario"));
+        // Cassettes mirror the features tree, so same-named features in different folders stay apart
+        String feature = Arrays.stream(scenario.featurePath().split("/"))
+                .map(segment -> segment.replaceAll("[^A-Za-z0-9._-]", "_"))
+                .collect(Collectors.joining("/"));
+        Path file = Paths.get(ConfigManager.getAPICassetteDirectory()).resolve(feature + ".jsonl");
+        return Optional.of(cassettes.computeIfAbsent(file, Cassette::load));
+    }
+
+    /** @return true when responses come from the cassette rather than the network */
+    boolean replays() {
+        return MODE == Mode.REPLAY;
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification request, FilterableResponseSpecification responseSpec,
+                           FilterContext context) {
+        URI uri = URI.create(request.getURI());
+        String target = target(uri);
+        String bodyHash = bodyHash(request.getBody());
+        String key = key(request.getMethod(), target, bodyHash);
+
+        if (MODE == Mode.REPLAY) {
+            Interaction interaction = interactions.get(key);
+            if (interaction == null) {
+                throw new IllegalStateException("No recorded interaction for " + request.getMethod() + " " + target
+                        + " (body " + bodyHash + ") in " + file
+                        + (existed ? "" : " — the cassette does not exist")
+                        + "; re-record with api.cassette.mode = record");
+            }
+            logger.debug("Replayed {} {} from {}", request.getMethod(), target, file.getFileName());
+            return toResponse(interaction);
+        }
+
+        Response response = context.next(request, responseSpec);
+        Interaction interaction = toInteraction(request.getMethod(), target, bodyHash, response);
+        interactions.put(interaction.key(), interaction);
+        recorded.increment();
+        return response;
+    }
+
+    // -------------------------------------------------------------------------
+    // Internal
+    // -------------------------------------------------------------------------
+
+    private static Response toResponse(Interaction interaction) {
+        List<Header> headers = new ArrayList<>();
+        interaction.headers().forEach((name, values) -> values.forEach(value -> headers.add(new Header(name, value))));
+        byte[] body;
+        if (interaction.json() != null) {
+            body = serialize(interaction.json());
+        } else if (interaction.text() != null) {
+            body = interaction.text().getBytes(StandardCharsets.UTF_8);
+        } else if (interaction.base64() != null) {
+            body = Base64.getDecoder().decode(interaction.base64());
+        } else {
+            body = new byte[0];
+        }
+        ResponseBuilder builder = new ResponseBuilder()
+                .setStatusCode(interaction.status())
+                .setStatusLine("HTTP/1.1 " + interaction.status())
+                .setHeaders(new Headers(headers))
+                .setBody(body);
+        headers.stream()
+                .filter(header -> header.getName().equalsIgnoreCase("Content-Type"))
+                .findFirst()
+                .ifPresent(header -> builder.setContentType(header.getValue()));
+        return builder.build();
+    }
+
+    private static Interaction toInteraction(String method, String target, String bodyHash, Response response) {
+        Map<String, List<String>> headers = new LinkedHashMap<>();
+        for (Header header : response.getHeaders()) {
+            if (!TRANSPORT_HEADERS.contains(header.getName().toLowerCase(Locale.ROOT))) {
+                headers.computeIfAbsent(header.getName(), name -> new ArrayList<>()).add(header.getValue());
+            }
+        }
+        byte[] body = response.asByteArray();
+        JsonNode json = null;
+        String text = null;
+        String base64 = null;
+        String contentType = Optional.ofNullable(response.getContentType()).orElse("").toLowerCase(Locale.ROOT);
+        if (body.length > 0) {
+            if (contentType.contains("json")) {
+                try {
+                    json = MAPPER.readTree(body);
+                } catch (IOException e) {
+                    text = new String(body, StandardCharsets.UTF_8);
+                }
+            } else if (contentType.startsWith("text/") || contentType.contains("xml")) {
+                text = new String(body, StandardCharsets.UTF_8);
+            } else {
+                base64 = Base64.getEncoder().encodeToString(body);
+            }
+        }
+        return new Interaction(method, target, bodyHash, response.getStatusCode(), headers, json, text, base64);
+    }
+
+    /** @return Interaction lookup key of a request */
+    static String key(String method, String target, String bodyHash) {
+        return method + " " + target + " " + bodyHash;
+    }
+
+    /** @return Path plus query with parameters sorted, so parameter order never affects matching */
+    static String target(URI uri) {
+        String path = uri.getRawPath() == null || uri.getRawPath().isEmpty() ? "/" : uri.getRawPath();
+        String query = uri.getRawQuery();
+        if (query == null || query.isEmpty()) {
+            return path;
+        }
+        String[] params = query.split("&");
+        Arrays.sort(params);
+        return path + "?" + String.join("&", params);
+    }
+
+    /** @return Short hash of the request body, JSON in canonical form; "-" when empty */
+    static String bodyHash(Object body) {
+        if (body == null) {
+            return "-";
+        }
+        byte[] bytes = body instanceof byte[] raw ? raw : body.toString().getBytes(StandardCharsets.UTF_8);
+        if (bytes.length == 0) {
+            return "-";
+        }
+        try {
+            JsonNode tree = MAPPER.readTree(bytes);
+            if (tree != null && tree.isContainerNode()) {
+                strip(tree);
+                bytes = CANONICAL.writeValueAsBytes(MAPPER.treeToValue(tree, Object.class));
+            }
+        } catch (IOException e) {
+            // Not JSON — hash the raw bytes
+        }
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(bytes);
+            return HexFormat.of().formatHex(digest, 0, 8);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 unavailable", e);
+        }
+    }
+
+    private static void strip(JsonNode node) {
+        if (node instanceof ObjectNode object) {
+            object.remove(IGNORED_BODY_FIELDS);
+        }
+        node.forEach(Cassette::strip);
+    }
+
+    private static byte[] serialize(JsonNode json) {
+        try {
+            return MAPPER.writeValueAsBytes(json);
+        } catch (IOException e) {
+            throw new RuntimeException("Cannot serialize recorded body", e);
+        }
+    }
+
+    private static Cassette load(Path file) {
+        Map<String, Interaction> interactions = new ConcurrentHashMap<>();
+        if (!Files.exists(file)) {
+            return new Cassette(file, false, interactions);
+        }
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.isBlank()) {
+                    Interaction interaction = MAPPER.readValue(line, Interaction.class);
+                    interactions.put(interaction.key(), interaction);
+                }
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Cannot read cassette: " + file, e);
+        }
+        logger.info("Loaded {} interactions from {}", interactions.size(), file);
+        return new Cassette(file, true, interactions);
+    }
+
+    /** Write every cassette that recorded something since it was last saved. */
+    static void saveAll() {
+        for (Cassette cassette : cassettes.values()) {
+            try {
+                cassette.save().ifPresent(logger::info);
+            } catch (IOException e) {
+                logger.error("Failed to save cassette {}", cassette.file, e);
+            }
+        }
+    }
+
+    /**
+     * Shutdown-hook fallback for runs that never reached {@link #saveAll()}.
+     * Reports to stderr: Log4j stops in its own shutdown hook, possibly first.
+     */
+    private static void saveOnExit() {
+        for (Cassette cassette : cassettes.values()) {
+            try {
+                cassette.save().ifPresent(System.err::println);
+            } catch (IOException e) {
+                System.err.println("Failed to save cassette " + cassette.file + ": " + e);
+            }
+        }
+    }
+
+    /** @return Summary of what was written, or empty when nothing new was recorded */
+    private synchronized Optional<String> save() throws IOException {
+        long recordedNow = recorded.sum();
+        if (recordedNow == savedRecorded) {
+            return Optional.empty();
+        }
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            for (Interaction interaction : interactions.values().stream()
+                    .sorted((a, b) -> a.key().compareTo(b.key())).toList()) {
+                writer.write(MAPPER.writeValueAsString(interaction));
+                writer.newLine();
+            }
+        }
+        savedRecorded = recordedNow;
+        return Optional.of("Cassette " + file + " saved: " + interactions.size() + " interactions ("
+                + recordedNow + " recorded this run)");
+    }
+
+    private static Mode resolveMode() {
+        String configured = ConfigManager.getAPICassetteMode();
+        try {
+            return Mode.valueOf(configured.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            logger.warn("Unknown api.cassette.mode '{}'; using off", configured);
+            return Mode.OFF;
+        }
+    }
+}
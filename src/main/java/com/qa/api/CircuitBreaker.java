@@ -0,0 +1,182 @@
+package com.qa.api;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.qa.utils.ConfigManager;
+
+import io.restassured.response.Response;
+
+/**
+ * CircuitBreaker — stops hammering a host that keeps failing.
+ *
+ * One circuit per host[:port]. A failure is an I/O error or a 5xx response;
+ * anything else counts as success. After failure-threshold consecutive
+ * failures the circuit opens and every call to that host fails fast with a
+ * {@link CircuitOpenException} for open-seconds. The first call after that
+ * is let through as a trial (half-open): success closes the circuit, failure
+ * opens it again. Calls arriving while the trial is in flight fail fast.
+ * Circuits are shared by all clients and threads, so one scenario finding a
+ * host down spares the rest the full timeout.
+ */
+public final class CircuitBreaker implements ResiliencePolicy {
+
+    private static final Logger logger = LogManager.getLogger(CircuitBreaker.class);
+
+    private static final LongAdder opens = new LongAdder();
+    private static final LongAdder fastFailures = new LongAdder();
+
+    private static CircuitBreaker perHost;
+
+    private enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final int failureThreshold;
+    private final long openNanos;
+    private final Map<String, Circuit> circuits = new ConcurrentHashMap<>();
+
+    /**
+     * @param failureThreshold Consecutive failures that open a circuit
+     * @param openSeconds      Seconds a circuit stays open before a trial call
+     */
+    public CircuitBreaker(int failureThreshold, int openSeconds) {
+        if (failureThreshold < 1) {
+            throw new IllegalArgumentException("failureThreshold must be at least 1: " + failureThreshold);
+        }
+        this.failureThreshold = failureThreshold;
+        this.openNanos = TimeUnit.SECONDS.toNanos(openSeconds);
+    }
+
+    /** @return The process-wide breaker configured under api.circuit-breaker */
+    public static synchronized CircuitBreaker perHost() {
+        if (perHost == null) {
+            perHost = new CircuitBreaker(ConfigManager.getAPICircuitBreakerFailureThreshold(),
+                    ConfigManager.getAPICircuitBreakerOpenSeconds());
+        }
+        return perHost;
+    }
+
+    @Override
+    public Response execute(Call call, Supplier<Response> attempt) {
+        Circuit circuit = circuits.computeIfAbsent(call.host(), Circuit::new);
+        circuit.acquire(call);
+        Response response;
+        try {
+            response = attempt.get();
+        } catch (Exception e) {
+            if (isTransportFailure(e)) {
+                circuit.onFailure(call, e.getClass().getSimpleName());
+            } else {
+                circuit.onNeutral();
+            }
+            throw e;
+        }
+        if (response.getStatusCode() >= 500) {
+            circuit.onFailure(call, "status " + response.getStatusCode());
+        } else {
+            circuit.onSuccess();
+        }
+        return response;
+    }
+
+    static long opens() {
+        return opens.sum();
+    }
+
+    static long fastFailures() {
+        return fastFailures.sum();
+    }
+
+    // -------------------------------------------------------------------------
+    // Internal
+    // -------------------------------------------------------------------------
+
+    private static boolean isTransportFailure(Throwable failure) {
+        for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+            if (cause instanceof IOException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /** State of one host; all transitions happen under the circuit's lock. */
+    private final class Circuit {
+
+        private final String host;
+        private State state = State.CLOSED;
+        private int consecutiveFailures;
+        private long openedAt;
+        private boolean trialInFlight;
+
+        Circuit(String host) {
+            this.host = host;
+        }
+
+        synchronized void acquire(Call call) {
+            if (state == State.OPEN && System.nanoTime() - openedAt >= openNanos) {
+                transition(State.HALF_OPEN, "trial call " + call);
+            }
+            if (state == State.CLOSED) {
+                return;
+            }
+            if (state == State.HALF_OPEN && !trialInFlight) {
+                trialInFlight = true;
+                return;
+            }
+            fastFailures.increment();
+            long remainingMillis = state == State.OPEN
+                    ? TimeUnit.NANOSECONDS.toMillis(openNanos - (System.nanoTime() - openedAt))
+                    : 0;
+            throw new CircuitOpenException(host, "Circuit for " + host + " is " + state.name().toLowerCase()
+                    + (remainingMillis > 0 ? " for another " + remainingMillis + " ms" : " (trial call in flight)")
+                    + "; refused " + call + " after " + consecutiveFailures + " consecutive failures");
+        }
+
+        synchronized void onSuccess() {
+            consecutiveFailures = 0;
+            trialInFlight = false;
+            if (state != State.CLOSED) {
+                transition(State.CLOSED, "trial call succeeded");
+            }
+        }
+
+        synchronized void onFailure(Call call, String reason) {
+            consecutiveFailures++;
+            trialInFlight = false;
+            if (state == State.HALF_OPEN
+                    || (state == State.CLOSED && consecutiveFailures >= failureThreshold)) {
+                openedAt = System.nanoTime();
+                opens.increment();
+                transition(State.OPEN, call + " failed with " + reason + " (" + consecutiveFailures
+                        + " consecutive failures); failing fast for "
+                        + TimeUnit.NANOSECONDS.toSeconds(openNanos) + " s");
+            }
+        }
+
+        /** A failure that says nothing about the host (e.g. a cassette miss) frees the trial slot only. */
+        synchronized void onNeutral() {
+            trialInFlight = false;
+        }
+
+        private void transition(State next, String reason) {
+            ResilienceEvents.publish(logger, next == State.OPEN ? Level.WARN : Level.INFO,
+                    "Circuit for " + host + " " + state.name().toLowerCase() + " -> "
+                            + next.name().toLowerCase() + ": " + reason);
+            state = next;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "circuit breaker per host, " + failureThreshold + " failures, open "
+                + TimeUnit.NANOSECONDS.toSeconds(openNanos) + " s";
+    }
+}
@@ -0,0 +1,22 @@
+package com.qa.api;
+
+/**
+ * CircuitOpenException — a call was refused because its host's circuit is open.
+ *
+ * Thrown by {@link CircuitBreaker} without touching the network; the message
+ * names the host and how long the circuit stays open.
+ */
+public class CircuitOpenException extends RuntimeException {
+
+    private final String host;
+
+    public CircuitOpenException(String host, String message) {
+        super(message);
+        this.host = host;
+    }
+
+    /** @return host[:port] whose circuit refused the call */
+    public String getHost() {
+        return host;
+    }
+}
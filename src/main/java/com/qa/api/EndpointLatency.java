@@ -0,0 +1,39 @@
+package com.qa.api;
+
+import org.HdrHistogram.Histogram;
+
+/**
+ * EndpointLatency — latency percentiles of one endpoint template.
+ *
+ * @param endpoint   Method and endpoint template, e.g. "GET /users/{id}"
+ * @param requests   Requests recorded
+ * @param errors     Requests that failed or returned 4xx/5xx
+ * @param meanMillis Mean latency in milliseconds
+ * @param p50Millis  Median latency in milliseconds
+ * @param p90Millis  90th percentile in milliseconds
+ * @param p99Millis  99th percentile in milliseconds
+ * @param maxMillis  Slowest request in milliseconds
+ */
+public record EndpointLatency(String endpoint, long requests, long errors, double meanMillis,
+                              double p50Millis, double p90Millis, double p99Millis, double maxMillis) {
+
+    static EndpointLatency of(String endpoint, Histogram micros, long errors) {
+        return new EndpointLatency(endpoint, micros.getTotalCount(), errors,
+                micros.getMean() / 1000.0,
+                micros.getValueAtPercentile(50) / 1000.0,
+                micros.getValueAtPercentile(90) / 1000.0,
+                micros.getValueAtPercentile(99) / 1000.0,
+                micros.getMaxValue() / 1000.0);
+    }
+
+    /** @return Fraction of requests that failed (0 when none recorded) */
+    public double errorRate() {
+        return requests == 0 ? 0 : (double) errors / requests;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%-32s %8d req %6.2f%% err  mean %8.1f  p50 %8.1f  p90 %8.1f  p99 %8.1f  max %8.1f ms",
+                endpoint, requests, errorRate() * 100, meanMillis, p50Millis, p90Millis, p99Millis, maxMillis);
+    }
+}
@@ -0,0 +1,191 @@
+package com.qa.api;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.GZIPInputStream;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.qa.utils.ConfigManager;
+
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.http.Header;
+import io.restassured.http.Headers;
+import io.restassured.internal.RestAssuredResponseOptionsImpl;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+/**
+ * Http2Transport — sends APIClient requests over one shared JDK HttpClient
+ * negotiating HTTP/2, instead of REST-Assured's HTTP/1.1 connection pool.
+ *
+ * Selected with api.http.version = 2. Installed as the last REST-Assured
+ * filter, it takes the fully built request (URI with path and query params,
+ * headers, serialized body) and never lets it reach the Apache client, so
+ * the builder API, cassettes, retries and {@link Response} assertions work
+ * unchanged. Concurrent requests to one origin share a single multiplexed
+ * connection: TLS hosts negotiate h2 via ALPN, plain http:// hosts are
+ * offered an h2c upgrade on the first request. Servers without HTTP/2 are
+ * spoken to over HTTP/1.1 by the same client. Bodies are requested gzipped
+ * and decoded here, and the response time is measured around the send, as
+ * the HTTP/1.1 path does.
+ */
+final class Http2Transport implements OrderedFilter {
+
+    private static final Logger logger = LogManager.getLogger(Http2Transport.class);
+
+    /** Headers the JDK client sets itself and refuses from callers */
+    private static final Set<String> RESTRICTED_HEADERS = Set.of(
+            "connection", "content-length", "expect", "host", "upgrade", "accept-encoding");
+
+    private static final Duration CONNECT_TIMEOUT = Duration.ofMillis(ConfigManager.getAPITimeout());
+    private static final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_2)
+            .connectTimeout(CONNECT_TIMEOUT)
+            .followRedirects(HttpClient.Redirect.NORMAL)
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .build();
+    private static final Map<Integer, Http2Transport> transports = new ConcurrentHashMap<>();
+
+    // Metrics
+    private static final LongAdder http2Responses = new LongAdder();
+    private static final LongAdder http1Responses = new LongAdder();
+
+    static {
+        logger.info("HTTP/2 transport: {} ms connect timeout", CONNECT_TIMEOUT.toMillis());
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> logger.info(
+                "HTTP/2 transport closing; responses over HTTP/2 {}, over HTTP/1.1 {}",
+                http2Responses.sum(), http1Responses.sum()), "http2-transport-shutdown"));
+    }
+
+    private final Duration timeout;
+
+    private Http2Transport(Duration timeout) {
+        this.timeout = timeout;
+    }
+
+    /**
+     * @param timeoutMillis Response timeout of the caller's environment
+     * @return Transport filter sending over the shared client
+     */
+    static Http2Transport get(int timeoutMillis) {
+        return transports.computeIfAbsent(timeoutMillis, timeout -> new Http2Transport(Duration.ofMillis(timeout)));
+    }
+
+    @Override
+    public int getOrder() {
+        // After every other filter (e.g. a Cassette), so only requests that would reach the network are sent here
+        return LOWEST_PRECEDENCE;
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification request, FilterableResponseSpecification responseSpec,
+                           FilterContext context) {
+        HttpRequest httpRequest = toHttpRequest(request);
+        HttpResponse<byte[]> response;
+        long start = System.nanoTime();
+        try {
+            response = client.send(httpRequest, HttpResponse.BodyHandlers.ofByteArray());
+        } catch (IOException e) {
+            throw new UncheckedIOException(request.getMethod() + " " + httpRequest.uri() + " failed", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while sending " + request.getMethod() + " "
+                    + httpRequest.uri(), e);
+        }
+        return toResponse(response, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    // -------------------------------------------------------------------------
+    // Internal
+    // -------------------------------------------------------------------------
+
+    private HttpRequest toHttpRequest(FilterableRequestSpecification request) {
+        byte[] body = body(request.getBody());
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(request.getURI()))
+                .timeout(timeout)
+                .method(request.getMethod(), body.length == 0
+                        ? HttpRequest.BodyPublishers.noBody()
+                        : HttpRequest.BodyPublishers.ofByteArray(body))
+                .header("Accept-Encoding", "gzip");
+        boolean contentTypeSet = false;
+        for (Header header : request.getHeaders()) {
+            String name = header.getName().toLowerCase(Locale.ROOT);
+            if (!RESTRICTED_HEADERS.contains(name)) {
+                builder.header(header.getName(), header.getValue());
+                contentTypeSet |= name.equals("content-type");
+            }
+        }
+        if (!contentTypeSet && body.length > 0 && request.getContentType() != null) {
+            builder.header("Content-Type", request.getContentType());
+        }
+        return builder.build();
+    }
+
+    private static byte[] body(Object body) {
+        if (body == null) {
+            return new byte[0];
+        }
+        return body instanceof byte[] raw ? raw : body.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * @param elapsedMillis Time the send took, body included; reported as
+     *                      {@link Response#getTime()} like on the HTTP/1.1 path
+     */
+    private static Response toResponse(HttpResponse<byte[]> response, long elapsedMillis) {
+        boolean http2 = response.version() == HttpClient.Version.HTTP_2;
+        (http2 ? http2Responses : http1Responses).increment();
+        boolean gzipped = response.headers().firstValue("Content-Encoding")
+                .filter(encoding -> encoding.equalsIgnoreCase("gzip"))
+                .isPresent();
+        List<Header> headers = new ArrayList<>();
+        response.headers().map().forEach((name, values) -> {
+            if (!(gzipped && (name.equalsIgnoreCase("Content-Encoding") || name.equalsIgnoreCase("Content-Length")))) {
+                values.forEach(value -> headers.add(new Header(name, value)));
+            }
+        });
+        ResponseBuilder builder = new ResponseBuilder()
+                .setStatusCode(response.statusCode())
+                .setStatusLine((http2 ? "HTTP/2 " : "HTTP/1.1 ") + response.statusCode())
+                .setHeaders(new Headers(headers))
+                .setBody(gzipped ? gunzip(response.body()) : response.body());
+        response.headers().firstValue("Content-Type").ifPresent(builder::setContentType);
+        Response built = builder.build();
+        if (built instanceof RestAssuredResponseOptionsImpl<?> timed) {
+            timed.setResponseTime(elapsedMillis);
+        }
+        return built;
+    }
+
+    private static byte[] gunzip(byte[] body) {
+        if (body.length == 0) {
+            return body;
+        }
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot decode gzipped response body", e);
+        }
+    }
+}
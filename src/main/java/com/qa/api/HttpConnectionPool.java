@@ -0,0 +1,163 @@
+package com.qa.api;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.http.HttpConnection;
+import org.apache.http.conn.ConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.DefaultHttpClient;
+import org.apache.http.impl.client.DefaultHttpRequestRetryHandler;
+import org.apache.http.impl.conn.PoolingClientConnectionManager;
+import org.apache.http.params.HttpParams;
+import org.apache.http.pool.PoolStats;
+import org.apache.http.protocol.HttpCoreContext;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.qa.utils.ConfigManager;
+import com.qa.utils.ConfigSnapshot;
+import com.qa.utils.SharedObjectMapper;
+
+import io.restassured.config.DecoderConfig;
+import io.restassured.config.HttpClientConfig;
+import io.restassured.config.ObjectMapperConfig;
+import io.restassured.config.RestAssuredConfig;
+
+/**
+ * HttpConnectionPool — process-wide keep-alive connection pool behind every APIClient.
+ *
+ * REST-Assured asks its HttpClientConfig factory for a client on each request.
+ * The factory hands out a lightweight DefaultHttpClient per request (so
+ * REST-Assured's per-request client parameters never leak between threads),
+ * but all of them lease connections from one shared
+ * PoolingClientConnectionManager, so TCP/TLS connections are reused across
+ * requests, scenarios and worker threads. Bodies are negotiated with
+ * gzip/deflate, the timeouts come from api.timeout (per environment, applied
+ * as client parameters on top of the defaults), and object bodies are
+ * (de)serialized with the {@link SharedObjectMapper} instead of a mapper
+ * built per request. HttpClient's own silent retry of dropped requests is
+ * turned off; {@link RetryPolicy} decides what is retried. Reloaded pool
+ * limits are applied to the live pool.
+ *
+ * The deprecated HttpClient 4.0 client and pool are deliberate: REST-Assured
+ * configures every client through getParams(), which the clients built by
+ * HttpClientBuilder reject with UnsupportedOperationException, and
+ * DefaultHttpClient only accepts the matching legacy connection manager.
+ */
+final class HttpConnectionPool {
+
+    private static final Logger logger = LogManager.getLogger(HttpConnectionPool.class);
+
+    private static final int TIMEOUT_MS = ConfigManager.getAPITimeout();
+    private static final long KEEP_ALIVE_MS = TimeUnit.SECONDS.toMillis(ConfigManager.getAPIKeepAliveSeconds());
+    /** Client parameters read by HttpClient 4; the CoreConnectionPNames constants are deprecated */
+    private static final String CONNECTION_TIMEOUT = "http.connection.timeout";
+    private static final String SO_TIMEOUT = "http.socket.timeout";
+    private static final String CONN_MANAGER_TIMEOUT = "http.conn-manager.timeout";
+
+    @SuppressWarnings("deprecation") // REST-Assured 5 needs a DefaultHttpClient, which needs this manager
+    private static final PoolingClientConnectionManager connectionManager = newConnectionManager();
+    private static final ConnectionKeepAliveStrategy keepAlive = (response, context) -> {
+        long advertised = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+        return advertised > 0 ? Math.min(advertised, KEEP_ALIVE_MS) : KEEP_ALIVE_MS;
+    };
+    private static final RestAssuredConfig CONFIG = RestAssuredConfig.config()
+            .httpClient(HttpClientConfig.httpClientConfig().httpClientFactory(HttpConnectionPool::newClient))
+            .decoderConfig(DecoderConfig.decoderConfig()
+                    .contentDecoders(DecoderConfig.ContentDecoder.GZIP, DecoderConfig.ContentDecoder.DEFLATE))
+            .objectMapperConfig(ObjectMapperConfig.objectMapperConfig()
+                    .jackson2ObjectMapperFactory((type, charset) -> SharedObjectMapper.get()));
+
+    /** Variants of CONFIG for environments with a different api.timeout */
+    private static final Map<Integer, RestAssuredConfig> configs = new ConcurrentHashMap<>();
+
+    // Metrics
+    private static final LongAdder requests = new LongAdder();
+    private static final LongAdder reusedConnections = new LongAdder();
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(HttpConnectionPool::shutdown, "http-pool-shutdown"));
+        ConfigManager.addReloadListener(HttpConnectionPool::onReload);
+    }
+
+    private HttpConnectionPool() {
+        // Utility class — do not instantiate
+    }
+
+    /**
+     * @param timeoutMillis Connect and read timeout of the caller's environment
+     * @return REST-Assured configuration wired to the shared pool
+     */
+    static RestAssuredConfig config(int timeoutMillis) {
+        if (timeoutMillis == TIMEOUT_MS) {
+            return CONFIG;
+        }
+        return configs.computeIfAbsent(timeoutMillis, timeout -> CONFIG.httpClient(CONFIG.getHttpClientConfig()
+                .setParam(CONNECTION_TIMEOUT, timeout)
+                .setParam(SO_TIMEOUT, timeout)
+                .setParam(CONN_MANAGER_TIMEOUT, (long) timeout)));
+    }
+
+    /** @return Point-in-time pool utilization and connection-reuse metrics */
+    static HttpPoolStats stats() {
+        PoolStats totals = connectionManager.getTotalStats();
+        return new HttpPoolStats(totals.getMax(), connectionManager.getDefaultMaxPerRoute(),
+                totals.getLeased(), totals.getAvailable(), totals.getPending(),
+                requests.sum(), reusedConnections.sum());
+    }
+
+    // -------------------------------------------------------------------------
+    // Internal
+    // -------------------------------------------------------------------------
+
+    @SuppressWarnings("deprecation") // See the class comment: the legacy pool is what DefaultHttpClient accepts
+    private static PoolingClientConnectionManager newConnectionManager() {
+        PoolingClientConnectionManager manager = new PoolingClientConnectionManager();
+        manager.setMaxTotal(ConfigManager.getAPIMaxConnections());
+        manager.setDefaultMaxPerRoute(ConfigManager.getAPIMaxConnectionsPerRoute());
+        logger.info("HTTP connection pool: {} max, {} per route, {} ms timeout",
+                manager.getMaxTotal(), manager.getDefaultMaxPerRoute(), TIMEOUT_MS);
+        return manager;
+    }
+
+    @SuppressWarnings("deprecation") // See the class comment: REST-Assured 5 sets HttpParams on each client
+    private static DefaultHttpClient newClient() {
+        DefaultHttpClient client = new DefaultHttpClient(connectionManager);
+        HttpParams params = client.getParams();
+        params.setIntParameter(CONNECTION_TIMEOUT, TIMEOUT_MS);
+        params.setIntParameter(SO_TIMEOUT, TIMEOUT_MS);
+        // Bound the wait for a free pooled connection as well
+        params.setLongParameter(CONN_MANAGER_TIMEOUT, TIMEOUT_MS);
+        client.setKeepAliveStrategy(keepAlive);
+        // Retries belong to APIClient's ResiliencePolicy, where they are logged and counted
+        client.setHttpRequestRetryHandler(new DefaultHttpRequestRetryHandler(0, false));
+        client.addResponseInterceptor((response, context) -> {
+            requests.increment();
+            if (context.getAttribute(HttpCoreContext.HTTP_CONNECTION) instanceof HttpConnection connection
+                    && connection.getMetrics().getRequestCount() > 1) {
+                reusedConnections.increment();
+            }
+        });
+        return client;
+    }
+
+    /** Apply reloaded pool limits; leased connections are kept and count against the new limits. */
+    private static void onReload(ConfigSnapshot previous, ConfigSnapshot current) {
+        ConfigSnapshot.Api api = current.api();
+        if (api.maxConnections() != previous.api().maxConnections()
+                || api.maxConnectionsPerRoute() != previous.api().maxConnectionsPerRoute()) {
+            connectionManager.setMaxTotal(api.maxConnections());
+            connectionManager.setDefaultMaxPerRoute(api.maxConnectionsPerRoute());
+            logger.info("HTTP connection pool resized: {} max, {} per route",
+                    api.maxConnections(), api.maxConnectionsPerRoute());
+        }
+    }
+
+    private static void shutdown() {
+        logger.info("HTTP connection pool closing; {}", stats());
+        connectionManager.shutdown();
+    }
+}
@@ -0,0 +1,28 @@
+package com.qa.api;
+
+/**
+ * HttpPoolStats — point-in-time snapshot of the shared API connection pool.
+ *
+ * @param maxTotal          Maximum connections across all routes
+ * @param maxPerRoute       Maximum connections to a single host
+ * @param leased            Connections currently serving a request
+ * @param available         Idle keep-alive connections ready for reuse
+ * @param pending           Requests waiting for a free connection
+ * @param requests          Responses received since start-up
+ * @param reusedConnections Responses that arrived on an already-used connection
+ */
+public record HttpPoolStats(int maxTotal, int maxPerRoute, int leased, int available, int pending,
+                            long requests, long reusedConnections) {
+
+    /** @return Fraction of requests served on a reused connection (0 when none yet) */
+    public double reuseRate() {
+        return requests == 0 ? 0 : (double) reusedConnections / requests;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+                "connections %d leased, %d idle, %d pending (max %d, %d per route); requests %d, reused %d (%.0f%%)",
+                leased, available, pending, maxTotal, maxPerRoute, requests, reusedConnections, reuseRate() * 100);
+    }
+}
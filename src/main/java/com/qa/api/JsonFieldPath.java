@@ -0,0 +1,107 @@
+package com.qa.api;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.MissingNode;
+
+/**
+ * JsonFieldPath — a compiled field expression evaluated against a Jackson tree.
+ *
+ * Covers the GPath subset our feature files use: dotted field names and
+ * array indices, e.g. {@code id}, {@code address.geo.lat},
+ * {@code [0].email}, {@code items[-1].name}. As in GPath, a field name
+ * applied to an array collects that field from every element
+ * ({@code users.id}). Expressions are compiled once and cached for the
+ * whole run; anything outside the subset (closures, wildcards, method
+ * calls) is reported as unsupported so callers can fall back to GPath.
+ *
+ * @param expression Source expression
+ * @param segments   Field names (String) and array indices (Integer), in order
+ */
+public record JsonFieldPath(String expression, List<Object> segments) {
+
+    private static final Pattern SEGMENT = Pattern.compile("([A-Za-z_$][\\w$-]*)?((?:\\[-?\\d+])*)");
+    private static final Pattern INDEX = Pattern.compile("\\[(-?\\d+)]");
+    private static final Map<String, Optional<JsonFieldPath>> cache = new ConcurrentHashMap<>();
+
+    public JsonFieldPath {
+        segments = List.copyOf(segments);
+    }
+
+    /**
+     * @param expression GPath-style field expression
+     * @return Compiled path, or empty when the expression needs full GPath
+     */
+    public static Optional<JsonFieldPath> compile(String expression) {
+        return cache.computeIfAbsent(expression, JsonFieldPath::parse);
+    }
+
+    /**
+     * @param root Parsed response body
+     * @return Node at this path, or a MissingNode when any segment is absent
+     */
+    public JsonNode resolve(JsonNode root) {
+        JsonNode node = root;
+        for (Object segment : segments) {
+            if (segment instanceof Integer index) {
+                if (!node.isArray()) {
+                    return MissingNode.getInstance();
+                }
+                node = node.path(index < 0 ? node.size() + index : index);
+            } else if (node.isArray()) {
+                node = collect(node, (String) segment);
+            } else {
+                node = node.path((String) segment);
+            }
+            if (node.isMissingNode()) {
+                return node;
+            }
+        }
+        return node;
+    }
+
+    // -------------------------------------------------------------------------
+    // Internal
+    // -------------------------------------------------------------------------
+
+    private static JsonNode collect(JsonNode array, String field) {
+        ArrayNode values = JsonNodeFactory.instance.arrayNode();
+        for (JsonNode element : array) {
+            JsonNode value = element.path(field);
+            if (!value.isMissingNode()) {
+                values.add(value);
+            }
+        }
+        return values;
+    }
+
+    private static Optional<JsonFieldPath> parse(String expression) {
+        if (expression.isBlank()) {
+            return Optional.empty();
+        }
+        List<Object> segments = new ArrayList<>();
+        for (String part : expression.split("\\.", -1)) {
+            Matcher matcher = SEGMENT.matcher(part);
+            if (part.isEmpty() || !matcher.matches()) {
+                return Optional.empty();
+            }
+            if (matcher.group(1) != null) {
+                segments.add(matcher.group(1));
+            }
+            Matcher index = INDEX.matcher(matcher.group(2));
+            while (index.find()) {
+                segments.add(Integer.valueOf(index.group(1)));
+            }
+        }
+        return Optional.of(new JsonFieldPath(expression, segments));
+    }
+}
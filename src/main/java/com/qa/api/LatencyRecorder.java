@@ -0,0 +1,97 @@
+package com.qa.api;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+/**
+ * LatencyRecorder — per-endpoint HdrHistogram latencies of APIClient requests.
+ *
+ * Off by default so functional runs pay nothing; the load runner switches it
+ * on. Endpoints are grouped by template: numeric and UUID path segments
+ * become {id}, and the query string is dropped, so /users/1 and /users/2
+ * share one histogram. Values are recorded in microseconds with three
+ * significant digits.
+ */
+public final class LatencyRecorder {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(5);
+    private static final Pattern ORIGIN = Pattern.compile("^[a-zA-Z][a-zA-Z0-9+.-]*://[^/]*");
+    private static final Pattern ID_SEGMENT = Pattern.compile(
+            "/(\\d+|[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12})(?=/|$)");
+
+    private static final Map<String, Endpoint> endpoints = new ConcurrentHashMap<>();
+    private static volatile boolean active;
+
+    private LatencyRecorder() {
+        // Utility class — do not instantiate
+    }
+
+    /**
+     * Histogram and error count of one endpoint template.
+     */
+    private record Endpoint(Histogram histogram, LongAdder errors) {}
+
+    /** Start recording, discarding anything recorded before. */
+    public static void start() {
+        endpoints.clear();
+        active = true;
+    }
+
+    /** Stop recording; snapshots remain available. */
+    public static void stop() {
+        active = false;
+    }
+
+    /** @return true while requests are being recorded */
+    public static boolean isActive() {
+        return active;
+    }
+
+    /**
+     * Record one request; a no-op unless recording is active.
+     *
+     * @param method       HTTP verb
+     * @param endpoint     Endpoint path as requested
+     * @param elapsedNanos Time from send to full response
+     * @param error        true for transport failures and 5xx/4xx responses
+     */
+    public static void record(String method, String endpoint, long elapsedNanos, boolean error) {
+        if (!active) {
+            return;
+        }
+        Endpoint stats = endpoints.computeIfAbsent(method + " " + template(endpoint),
+                key -> new Endpoint(new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3), new LongAdder()));
+        stats.histogram().recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(elapsedNanos), HIGHEST_TRACKABLE_MICROS));
+        if (error) {
+            stats.errors().increment();
+        }
+    }
+
+    /** @return Percentiles per endpoint template, slowest p99 first */
+    public static List<EndpointLatency> snapshot() {
+        return endpoints.entrySet().stream()
+                .map(entry -> EndpointLatency.of(entry.getKey(), entry.getValue().histogram().copy(),
+                        entry.getValue().errors().sum()))
+                .sorted(Comparator.comparingDouble(EndpointLatency::p99Millis).reversed())
+                .toList();
+    }
+
+    /**
+     * @return Endpoint path with id segments replaced by {id}, and the scheme, host
+     *         and query removed (server-provided URLs such as pagination links)
+     */
+    static String template(String endpoint) {
+        int query = endpoint.indexOf('?');
+        String path = query >= 0 ? endpoint.substring(0, query) : endpoint;
+        path = ORIGIN.matcher(path).replaceFirst("");
+        return ID_SEGMENT.matcher(path).replaceAll("/{id}");
+    }
+}
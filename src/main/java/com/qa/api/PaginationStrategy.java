@@ -0,0 +1,191 @@
+package com.qa.api;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * PaginationStrategy — how a collection endpoint splits its records into pages.
+ *
+ * Each strategy knows the first request and derives the next one from the
+ * page just received; an empty result ends the iteration.
+ * <ul>
+ *   <li>{@link PageNumber} — ?page=N&amp;limit=L, stops on a short page</li>
+ *   <li>{@link Cursor}     — ?cursor=C&amp;limit=L, next cursor read from the body</li>
+ *   <li>{@link LinkHeader} — follows the rel="next" URL of the RFC 8288 Link header</li>
+ * </ul>
+ */
+public sealed interface PaginationStrategy
+        permits PaginationStrategy.PageNumber, PaginationStrategy.Cursor, PaginationStrategy.LinkHeader {
+
+    /**
+     * @return Field expression of the records array in each page
+     *         (see {@link JsonFieldPath}); empty when the body is the array itself
+     */
+    String itemsField();
+
+    /**
+     * @param endpoint Collection endpoint
+     * @return Request for the first page
+     */
+    PageRequest first(String endpoint);
+
+    /**
+     * @param current Request that produced {@code page}
+     * @param page    Page just received
+     * @return Request for the following page, or empty when {@code page} was the last
+     */
+    Optional<PageRequest> next(PageRequest current, PageResult page);
+
+    /**
+     * One page request.
+     *
+     * @param target       Endpoint path, or an absolute URL taken from the server
+     * @param queryParams  Paging parameters for this page
+     * @param inheritQuery false when {@code target} is a server-provided URL that
+     *                     already carries its full, encoded query
+     */
+    record PageRequest(String target, Map<String, Object> queryParams, boolean inheritQuery) {
+
+        public PageRequest {
+            queryParams = Map.copyOf(queryParams);
+        }
+    }
+
+    /**
+     * What a strategy may inspect about a received page.
+     *
+     * @param body      Whole parsed body
+     * @param itemCount Number of records on the page
+     * @param link      Link response header, or null
+     */
+    record PageResult(JsonNode body, int itemCount, String link) {}
+
+    // -------------------------------------------------------------------------
+    // Strategies
+    // -------------------------------------------------------------------------
+
+    /**
+     * Numbered pages of a fixed size.
+     *
+     * @param pageParam  Query parameter carrying the page number
+     * @param limitParam Query parameter carrying the page size
+     * @param limit      Page size
+     * @param firstPage  Number of the first page (0 or 1)
+     * @param itemsField Field holding the records; empty for a top-level array
+     */
+    record PageNumber(String pageParam, String limitParam, int limit, int firstPage, String itemsField)
+            implements PaginationStrategy {
+
+        @Override
+        public PageRequest first(String endpoint) {
+            return new PageRequest(endpoint, Map.of(pageParam, firstPage, limitParam, limit), true);
+        }
+
+        @Override
+        public Optional<PageRequest> next(PageRequest current, PageResult page) {
+            if (page.itemCount() < limit) {
+                return Optional.empty();
+            }
+            int pageNumber = ((Number) current.queryParams().get(pageParam)).intValue();
+            return Optional.of(new PageRequest(current.target(),
+                    Map.of(pageParam, pageNumber + 1, limitParam, limit), true));
+        }
+    }
+
+    /**
+     * Opaque cursors handed out by the server.
+     *
+     * @param cursorParam Query parameter carrying the cursor
+     * @param limitParam  Query parameter carrying the page size
+     * @param limit       Page size
+     * @param nextField   Field expression of the next cursor in the body; absent or null ends
+     * @param itemsField  Field holding the records
+     */
+    record Cursor(String cursorParam, String limitParam, int limit, String nextField, String itemsField)
+            implements PaginationStrategy {
+
+        @Override
+        public PageRequest first(String endpoint) {
+            return new PageRequest(endpoint, Map.of(limitParam, limit), true);
+        }
+
+        @Override
+        public Optional<PageRequest> next(PageRequest current, PageResult page) {
+            JsonNode cursor = JsonFieldPath.compile(nextField)
+                    .map(path -> path.resolve(page.body()))
+                    .orElseThrow(() -> new IllegalArgumentException("Unsupported cursor field: " + nextField));
+            if (page.itemCount() == 0 || cursor.isMissingNode() || cursor.isNull() || cursor.asText().isEmpty()) {
+                return Optional.empty();
+            }
+            return Optional.of(new PageRequest(current.target(),
+                    Map.of(cursorParam, cursor.asText(), limitParam, limit), true));
+        }
+    }
+
+    /**
+     * Server-driven pages linked through the Link header.
+     *
+     * @param pageParam  Query parameter for the first page number
+     * @param limitParam Query parameter for the page size
+     * @param limit      Page size requested on the first page
+     * @param itemsField Field holding the records; empty for a top-level array
+     */
+    record LinkHeader(String pageParam, String limitParam, int limit, String itemsField)
+            implements PaginationStrategy {
+
+        private static final Pattern NEXT = Pattern.compile("<([^>]+)>\\s*;[^,]*\\brel=\"?next\"?");
+
+        @Override
+        public PageRequest first(String endpoint) {
+            return new PageRequest(endpoint, Map.of(pageParam, 1, limitParam, limit), true);
+        }
+
+        @Override
+        public Optional<PageRequest> next(PageRequest current, PageResult page) {
+            if (page.itemCount() == 0 || page.link() == null) {
+                return Optional.empty();
+            }
+            Matcher matcher = NEXT.matcher(page.link());
+            return matcher.find()
+                    ? Optional.of(new PageRequest(matcher.group(1), Map.of(), false))
+                    : Optional.empty();
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // Factories with json-server style defaults (_page / _limit, top-level arrays)
+    // -------------------------------------------------------------------------
+
+    static PaginationStrategy pageNumber(int limit) {
+        return new PageNumber("_page", "_limit", limit, 1, "");
+    }
+
+    static PaginationStrategy cursor(int limit) {
+        return new Cursor("cursor", "limit", limit, "next_cursor", "data");
+    }
+
+    static PaginationStrategy linkHeader(int limit) {
+        return new LinkHeader("_page", "_limit", limit, "");
+    }
+
+    /**
+     * @param style page | cursor | link
+     * @param limit Page size
+     * @return Strategy with default parameter names
+     */
+    static PaginationStrategy of(String style, int limit) {
+        return switch (style.toLowerCase(Locale.ROOT)) {
+            case "page" -> pageNumber(limit);
+            case "cursor" -> cursor(limit);
+            case "link" -> linkHeader(limit);
+            default -> throw new IllegalArgumentException(
+                    "Unknown pagination style '" + style + "'; expected one of " + List.of("page", "cursor", "link"));
+        };
+    }
+}
@@ -0,0 +1,159 @@
+package com.qa.api;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.qa.api.PaginationStrategy.PageRequest;
+import com.qa.api.PaginationStrategy.PageResult;
+import com.qa.utils.ConfigManager;
+import com.qa.utils.ScenarioContext;
+import com.qa.utils.SharedObjectMapper;
+
+import io.restassured.response.Response;
+
+/**
+ * Paginator — walks a paginated collection one record at a time.
+ *
+ * As soon as a page arrives, the request for the following page is started
+ * on a virtual thread, so the network round-trip overlaps with the caller
+ * processing the current page. At most two pages (the one being consumed
+ * and the one in flight) are held in memory, whatever the collection size.
+ * Iteration stops when the strategy reports no next page or after
+ * api.pagination.max-pages pages.
+ */
+final class Paginator implements Spliterator<JsonNode>, AutoCloseable {
+
+    private static final Logger logger = LogManager.getLogger(Paginator.class);
+    private static final ExecutorService prefetcher = Executors.newVirtualThreadPerTaskExecutor();
+    private static final int MAX_PAGES = ConfigManager.getAPIPaginationMaxPages();
+
+    private final APIClient origin;
+    private final PaginationStrategy strategy;
+    private final JsonFieldPath itemsPath;
+    private Iterator<JsonNode> current;
+    private CompletableFuture<Page> pending;
+    private int pagesRequested;
+
+    /**
+     * A fetched page: its records and the request for the page after it.
+     */
+    private record Page(JsonNode items, PageRequest next) {}
+
+    Paginator(APIClient origin, PaginationStrategy strategy, String endpoint) {
+        this.origin = origin;
+        this.strategy = strategy;
+        this.itemsPath = strategy.itemsField().isEmpty()
+                ? null
+                : JsonFieldPath.compile(strategy.itemsField()).orElseThrow(() ->
+                        new IllegalArgumentException("Unsupported items field: " + strategy.itemsField()));
+        this.pending = prefetch(strategy.first(endpoint));
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super JsonNode> action) {
+        while (current == null || !current.hasNext()) {
+            if (pending == null) {
+                return false;
+            }
+            Page page = await(pending);
+            pending = page.next() != null ? prefetch(page.next()) : null;
+            current = page.items().iterator();
+        }
+        action.accept(current.next());
+        return true;
+    }
+
+    @Override
+    public Spliterator<JsonNode> trySplit() {
+        return null;
+    }
+
+    @Override
+    public long estimateSize() {
+        return Long.MAX_VALUE;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | NONNULL;
+    }
+
+    /** Abandon any page still in flight. */
+    @Override
+    public void close() {
+        if (pending != null) {
+            pending.cancel(true);
+            pending = null;
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // Internal
+    // -------------------------------------------------------------------------
+
+    private CompletableFuture<Page> prefetch(PageRequest request) {
+        if (pagesRequested >= MAX_PAGES) {
+            logger.warn("Stopping pagination after {} pages (api.pagination.max-pages)", MAX_PAGES);
+            return null;
+        }
+        pagesRequested++;
+        Optional<ScenarioContext> scenario = ScenarioContext.current();
+        return CompletableFuture.supplyAsync(() -> {
+            scenario.ifPresent(ScenarioContext::bind);
+            try {
+                return fetch(request);
+            } finally {
+                ScenarioContext.unbind();
+            }
+        }, prefetcher);
+    }
+
+    private Page fetch(PageRequest request) {
+        APIClient client = origin.copy(request.inheritQuery());
+        if (!request.inheritQuery()) {
+            client.verbatimUrls();
+        }
+        request.queryParams().forEach(client::addQueryParam);
+        Response response = client.get(request.target());
+        int status = response.getStatusCode();
+        if (status < 200 || status >= 300) {
+            throw new IllegalStateException("Page request " + request + " returned " + status
+                    + ". Body: " + ResponseBody.preview(response, ConfigManager.getAPIResponsePreviewChars()));
+        }
+        JsonNode body;
+        try {
+            body = SharedObjectMapper.get().readTree(response.asByteArray());
+        } catch (IOException e) {
+            throw new RuntimeException("Page response is not valid JSON: " + request, e);
+        }
+        JsonNode items = itemsPath == null ? body : itemsPath.resolve(body);
+        if (!items.isArray()) {
+            throw new IllegalStateException("Page " + request + " has no records array at '"
+                    + strategy.itemsField() + "'");
+        }
+        PageResult result = new PageResult(body, items.size(), response.getHeader("Link"));
+        return new Page(items, strategy.next(request, result).orElse(null));
+    }
+
+    private static Page await(CompletableFuture<Page> page) {
+        try {
+            return page.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
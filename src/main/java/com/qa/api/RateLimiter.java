@@ -0,0 +1,217 @@
+package com.qa.api;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.qa.utils.ConfigManager;
+import com.qa.utils.ConfigSnapshot;
+import com.qa.utils.ScenarioContext;
+
+/**
+ * RateLimiter — client-side token buckets shared by every API thread in the JVM.
+ *
+ * api.rate-limit.limits lists one bucket per line:
+ * <pre>
+ *   "&lt;host&gt;[ &lt;endpoint-pattern&gt;] &lt;permits&gt;/&lt;s|m&gt;[ burst &lt;n&gt;]"
+ *   "jsonplaceholder.typicode.com 20/s burst 10"
+ *   "jsonplaceholder.typicode.com /posts/* 5/s"
+ * </pre>
+ * The host may carry a port or be {@code *}; in endpoint patterns {@code *}
+ * matches within one path segment and a trailing {@code /**} matches the rest.
+ * A request takes one permit from every bucket it matches. Permits are handed
+ * out strictly in arrival order: each caller reserves the next free slot under
+ * a fair lock and then sleeps until it, outside the lock, so waiting virtual
+ * threads unmount instead of pinning a carrier. Time spent waiting is added to
+ * the bound scenario and reported by Hooks.
+ */
+final class RateLimiter {
+
+    private static final Logger logger = LogManager.getLogger(RateLimiter.class);
+    private static final Pattern SPEC = Pattern.compile(
+            "^(\\S+)(?:\\s+(/\\S*))?\\s+(\\d+(?:\\.\\d+)?)/(s|m)(?:\\s+burst\\s+(\\d+))?$");
+
+    private static volatile List<Bucket> buckets = ConfigManager.isAPIRateLimitEnabled()
+            ? parse(ConfigManager.getAPIRateLimits())
+            : List.of();
+    private static final Map<String, LongAdder> throttledByScenario = new ConcurrentHashMap<>();
+
+    static {
+        buckets.forEach(bucket -> logger.info("API rate limit: {}", bucket));
+        ConfigManager.addReloadListener(RateLimiter::onReload);
+    }
+
+    private RateLimiter() {
+        // Utility class — do not instantiate
+    }
+
+    /**
+     * Block until the call may go out under every matching limit.
+     *
+     * @param host     host[:port] of the request
+     * @param endpoint Endpoint path or absolute URL as requested
+     */
+    static void acquire(String host, String endpoint) {
+        List<Bucket> current = buckets;
+        if (current.isEmpty()) {
+            return;
+        }
+        String path = path(endpoint);
+        long waitNanos = 0;
+        for (Bucket bucket : current) {
+            if (bucket.matches(host, path)) {
+                waitNanos = Math.max(waitNanos, bucket.reserve());
+            }
+        }
+        if (waitNanos <= 0) {
+            return;
+        }
+        logger.debug("Rate limit: holding {} for {} ms", endpoint, TimeUnit.NANOSECONDS.toMillis(waitNanos));
+        long start = System.nanoTime();
+        try {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while rate-limited: " + endpoint, e);
+        } finally {
+            long waited = System.nanoTime() - start;
+            ScenarioContext.current().ifPresent(scenario ->
+                    throttledByScenario.computeIfAbsent(scenario.id(), id -> new LongAdder()).add(waited));
+        }
+    }
+
+    /**
+     * @param scenarioId Scenario whose total to take
+     * @return Milliseconds the scenario's requests were held, forgetting the total
+     */
+    static long takeThrottledMillis(String scenarioId) {
+        LongAdder total = throttledByScenario.remove(scenarioId);
+        return total == null ? 0 : TimeUnit.NANOSECONDS.toMillis(total.sum());
+    }
+
+    // -------------------------------------------------------------------------
+    // Internal
+    // -------------------------------------------------------------------------
+
+    /** Swap in reloaded limits; the new buckets start full, reservations already made still apply. */
+    private static void onReload(ConfigSnapshot previous, ConfigSnapshot current) {
+        ConfigSnapshot.Api api = current.api();
+        if (api.rateLimitEnabled() == previous.api().rateLimitEnabled()
+                && api.rateLimits().equals(previous.api().rateLimits())) {
+            return;
+        }
+        try {
+            buckets = api.rateLimitEnabled() ? parse(api.rateLimits()) : List.of();
+            logger.info("API rate limits reloaded: {}", buckets.isEmpty() ? "none" : buckets);
+        } catch (IllegalArgumentException e) {
+            logger.error("Reloaded api.rate-limit.limits rejected; keeping the previous limits", e);
+        }
+    }
+
+    /**
+     * Token bucket that lends against the future: a reservation always
+     * succeeds and returns how long the caller must wait for its token, so
+     * later callers queue behind earlier ones.
+     */
+    static final class Bucket {
+
+        private final String spec;
+        private final String host;
+        private final Pattern endpoint;
+        private final double permitsPerNano;
+        private final double burst;
+        private final ReentrantLock lock = new ReentrantLock(true);
+        private double tokens;
+        private long refilledAt = System.nanoTime();
+
+        Bucket(String spec, String host, Pattern endpoint, double permitsPerSecond, int burst) {
+            this.spec = spec;
+            this.host = host;
+            this.endpoint = endpoint;
+            this.permitsPerNano = permitsPerSecond / TimeUnit.SECONDS.toNanos(1);
+            this.burst = burst;
+            this.tokens = burst;
+        }
+
+        boolean matches(String requestHost, String path) {
+            boolean hostMatches = host.equals("*") || host.equalsIgnoreCase(requestHost)
+                    || (host.indexOf(':') < 0 && requestHost.regionMatches(true, 0, host + ":", 0, host.length() + 1));
+            return hostMatches && (endpoint == null || endpoint.matcher(path).matches());
+        }
+
+        /** @return Nanoseconds until the reserved permit is available (0 if now) */
+        long reserve() {
+            lock.lock();
+            try {
+                long now = System.nanoTime();
+                tokens = Math.min(burst, tokens + (now - refilledAt) * permitsPerNano);
+                refilledAt = now;
+                tokens -= 1;
+                return tokens >= 0 ? 0 : (long) Math.ceil(-tokens / permitsPerNano);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        @Override
+        public String toString() {
+            return spec;
+        }
+    }
+
+    static List<Bucket> parse(List<String> specs) {
+        List<Bucket> parsed = new ArrayList<>();
+        for (String spec : specs) {
+            Matcher matcher = SPEC.matcher(spec.trim());
+            if (!matcher.matches()) {
+                throw new IllegalArgumentException("Invalid api.rate-limit.limits entry '" + spec
+                        + "'; expected \"<host>[ <endpoint-pattern>] <permits>/<s|m>[ burst <n>]\"");
+            }
+            double permits = Double.parseDouble(matcher.group(3));
+            double perSecond = matcher.group(4).equals("m") ? permits / 60 : permits;
+            if (perSecond <= 0) {
+                throw new IllegalArgumentException("Rate must be positive in api.rate-limit.limits entry '" + spec + "'");
+            }
+            int burst = matcher.group(5) != null ? Integer.parseInt(matcher.group(5)) : 1;
+            parsed.add(new Bucket(spec.trim(), matcher.group(1),
+                    matcher.group(2) != null ? glob(matcher.group(2)) : null, perSecond, Math.max(1, burst)));
+        }
+        return List.copyOf(parsed);
+    }
+
+    static Pattern glob(String pattern) {
+        StringBuilder regex = new StringBuilder();
+        String body = pattern.endsWith("/**") ? pattern.substring(0, pattern.length() - 3) : pattern;
+        for (String literal : body.split("\\*", -1)) {
+            if (!regex.isEmpty()) {
+                regex.append("[^/]*");
+            }
+            regex.append(Pattern.quote(literal));
+        }
+        if (pattern.endsWith("/**")) {
+            regex.append("(/.*)?");
+        }
+        return Pattern.compile(regex.toString());
+    }
+
+    /** @return Path of the endpoint without scheme, host or query */
+    private static String path(String endpoint) {
+        String path = endpoint;
+        int scheme = path.indexOf("://");
+        if (scheme >= 0) {
+            int slash = path.indexOf('/', scheme + 3);
+            path = slash >= 0 ? path.substring(slash) : "/";
+        }
+        int query = path.indexOf('?');
+        return query >= 0 ? path.substring(0, query) : path;
+    }
+}
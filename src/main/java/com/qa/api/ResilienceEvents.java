@@ -0,0 +1,28 @@
+package com.qa.api;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.Logger;
+
+import io.qameta.allure.Allure;
+
+/**
+ * ResilienceEvents — makes retries and breaker transitions visible.
+ *
+ * Each event is logged and, when an Allure test is running on the current
+ * thread, recorded as a step of that test, so a scenario that only passed on
+ * a retry says so in the report. Counters are kept by the policies themselves
+ * and surfaced through {@link APIClient#getResilienceStats()}.
+ */
+final class ResilienceEvents {
+
+    private ResilienceEvents() {
+        // Utility class — do not instantiate
+    }
+
+    static void publish(Logger logger, Level level, String message) {
+        logger.log(level, message);
+        if (Allure.getLifecycle().getCurrentTestCaseOrStep().isPresent()) {
+            Allure.step(message);
+        }
+    }
+}
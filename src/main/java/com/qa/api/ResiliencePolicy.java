@@ -0,0 +1,72 @@
+package com.qa.api;
+
+import java.util.function.Supplier;
+
+import com.qa.utils.ConfigManager;
+
+import io.restassured.response.Response;
+
+/**
+ * ResiliencePolicy — decides how one logical APIClient call is attempted.
+ *
+ * A policy receives the call and a supplier that performs one attempt; it
+ * may invoke the supplier several times ({@link RetryPolicy}), refuse to
+ * invoke it ({@link CircuitBreaker}) or simply pass through. Policies
+ * compose with {@link #then(ResiliencePolicy)}, outermost first, so
+ * {@code retry.then(breaker)} sends every retry through the breaker.
+ */
+@FunctionalInterface
+public interface ResiliencePolicy {
+
+    /**
+     * One logical request as seen by a policy.
+     *
+     * @param method   HTTP verb
+     * @param host     host[:port] the request goes to; circuit breakers are kept per host
+     * @param endpoint Endpoint path or absolute URL as requested
+     */
+    record Call(String method, String host, String endpoint) {
+
+        /** @return true for verbs that may safely be sent more than once (RFC 9110 §9.2.2) */
+        public boolean isIdempotent() {
+            return switch (method) {
+                case "GET", "HEAD", "OPTIONS", "PUT", "DELETE" -> true;
+                default -> false;
+            };
+        }
+
+        @Override
+        public String toString() {
+            return method + " " + endpoint;
+        }
+    }
+
+    /**
+     * @param call    Request being made
+     * @param attempt Performs one attempt; may throw for transport failures
+     * @return The response to hand back to the caller
+     */
+    Response execute(Call call, Supplier<Response> attempt);
+
+    /**
+     * @param inner Policy applied to each attempt of this one
+     * @return Composition of this policy around {@code inner}
+     */
+    default ResiliencePolicy then(ResiliencePolicy inner) {
+        return (call, attempt) -> execute(call, () -> inner.execute(call, attempt));
+    }
+
+    /** @return Policy that makes exactly one attempt */
+    static ResiliencePolicy none() {
+        return (call, attempt) -> attempt.get();
+    }
+
+    /**
+     * @return Retries from api.retry around the per-host breaker from
+     *         api.circuit-breaker; either part is left out when disabled
+     */
+    static ResiliencePolicy fromConfig() {
+        ResiliencePolicy policy = ConfigManager.getAPIRetryMaxAttempts() > 1 ? RetryPolicy.fromConfig() : none();
+        return ConfigManager.isAPICircuitBreakerEnabled() ? policy.then(CircuitBreaker.perHost()) : policy;
+    }
+}
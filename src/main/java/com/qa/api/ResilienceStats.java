@@ -0,0 +1,25 @@
+package com.qa.api;
+
+/**
+ * ResilienceStats — what the retry and circuit-breaker policies did since start-up.
+ *
+ * @param retries         Attempts repeated after a transient failure
+ * @param recoveredCalls  Calls that succeeded after at least one retry
+ * @param exhaustedCalls  Calls that still failed after their last attempt
+ * @param circuitOpens    Times a host's circuit opened
+ * @param fastFailures    Calls refused by an open circuit
+ */
+public record ResilienceStats(long retries, long recoveredCalls, long exhaustedCalls,
+                              long circuitOpens, long fastFailures) {
+
+    static ResilienceStats snapshot() {
+        return new ResilienceStats(RetryPolicy.retries(), RetryPolicy.recovered(), RetryPolicy.exhausted(),
+                CircuitBreaker.opens(), CircuitBreaker.fastFailures());
+    }
+
+    @Override
+    public String toString() {
+        return String.format("retries %d (%d calls recovered, %d exhausted); circuits opened %d, fast failures %d",
+                retries, recoveredCalls, exhaustedCalls, circuitOpens, fastFailures);
+    }
+}
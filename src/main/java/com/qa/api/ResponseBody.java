@@ -0,0 +1,212 @@
+package com.qa.api;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.lang.ref.Cleaner;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.qa.utils.ConfigManager;
+
+import io.restassured.response.Response;
+
+/**
+ * ResponseBody — a response payload read once and kept as bytes.
+ *
+ * {@link #of(Response)} takes the payload over from a REST-Assured response:
+ * bodies up to api.response.spill-threshold-bytes stay on the heap, larger
+ * ones are written to a temp file and read back on demand. Once the caller
+ * drops the Response, as {@link APIResponse#from} does, multi-MB payloads
+ * held by snapshots no longer pin the heap. A Response that is kept keeps its
+ * bytes in memory regardless, so such callers use {@link #inMemory(Response)},
+ * and {@link #preview(Response, int)} for log lines, which never spill.
+ * The text form is only decoded when a caller asks for it, and previews
+ * decode just the leading bytes. Spilled files are deleted once the body is
+ * garbage collected.
+ */
+public final class ResponseBody {
+
+    private static final Logger logger = LogManager.getLogger(ResponseBody.class);
+    private static final Cleaner cleaner = Cleaner.create();
+    private static final long SPILL_THRESHOLD = ConfigManager.getAPIResponseSpillThreshold();
+
+    private final Charset charset;
+    private final int size;
+    private final byte[] bytes;
+    private final Path spillFile;
+
+    private ResponseBody(byte[] content, Charset charset, boolean maySpill) {
+        this.charset = charset;
+        this.size = content.length;
+        if (maySpill && content.length > SPILL_THRESHOLD) {
+            this.bytes = null;
+            this.spillFile = spill(content);
+            cleaner.register(this, new DeleteFile(spillFile));
+        } else {
+            this.bytes = content;
+            this.spillFile = null;
+        }
+    }
+
+    /**
+     * Take over the payload of a REST-Assured response, spilling it to disk
+     * when large. Drop the response afterwards; otherwise it still holds the
+     * bytes on the heap and {@link #inMemory(Response)} is the cheaper choice.
+     *
+     * @param response Completed response
+     * @return Body in the response's charset (UTF-8 when none is declared)
+     */
+    public static ResponseBody of(Response response) {
+        return new ResponseBody(response.asByteArray(), charsetOf(response.getContentType()), true);
+    }
+
+    /**
+     * Wrap the payload of a response the caller keeps. Shares the response's
+     * buffered bytes instead of copying them to disk.
+     *
+     * @param response Completed response
+     * @return Body in the response's charset (UTF-8 when none is declared)
+     */
+    public static ResponseBody inMemory(Response response) {
+        return new ResponseBody(response.asByteArray(), charsetOf(response.getContentType()), false);
+    }
+
+    /**
+     * Decode at most the first {@code maxChars} characters of a response's
+     * buffered body, without wrapping or copying the rest.
+     *
+     * @param response Completed response
+     * @param maxChars Preview length
+     * @return Leading text, suffixed with the total size when truncated
+     */
+    public static String preview(Response response, int maxChars) {
+        byte[] content = response.asByteArray();
+        Charset charset = charsetOf(response.getContentType());
+        int limit = previewBytes(content.length, maxChars);
+        return preview(new String(content, 0, limit, charset), limit, content.length, maxChars);
+    }
+
+    /** @return Body length in bytes */
+    public int size() {
+        return size;
+    }
+
+    /** @return true if the body lives in a temp file rather than on the heap */
+    public boolean isSpilled() {
+        return spillFile != null;
+    }
+
+    /** @return Raw body bytes (read back from disk when spilled); callers must not modify them */
+    public byte[] bytes() {
+        if (bytes != null) {
+            return bytes;
+        }
+        try {
+            return Files.readAllBytes(spillFile);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read spilled response body: " + spillFile, e);
+        }
+    }
+
+    /**
+     * @return Stream over the body, read straight from disk when spilled
+     * @throws IOException if the spilled file cannot be opened
+     */
+    InputStream openStream() throws IOException {
+        return bytes != null ? new ByteArrayInputStream(bytes) : Files.newInputStream(spillFile);
+    }
+
+    /** @return Whole body decoded as text */
+    public String asString() {
+        return new String(bytes(), charset);
+    }
+
+    /**
+     * Decode at most the first {@code maxChars} characters, for log and assertion messages.
+     *
+     * @param maxChars Preview length
+     * @return Leading text, suffixed with the total size when truncated
+     */
+    public String preview(int maxChars) {
+        int limit = previewBytes(size, maxChars);
+        return preview(leadingText(limit), limit, size, maxChars);
+    }
+
+    @Override
+    public String toString() {
+        return preview(ConfigManager.getAPIResponsePreviewChars());
+    }
+
+    // -------------------------------------------------------------------------
+    // Internal
+    // -------------------------------------------------------------------------
+
+    /** UTF-8 needs at most 4 bytes per character */
+    private static int previewBytes(int size, int maxChars) {
+        return (int) Math.min(size, (long) maxChars * 4);
+    }
+
+    private static String preview(String head, int decodedBytes, int size, int maxChars) {
+        if (head.length() <= maxChars && decodedBytes == size) {
+            return head;
+        }
+        return head.substring(0, Math.min(maxChars, head.length())) + "… (" + size + " bytes)";
+    }
+
+    private String leadingText(int count) {
+        if (bytes != null) {
+            return new String(bytes, 0, count, charset);
+        }
+        try (InputStream in = Files.newInputStream(spillFile)) {
+            return new String(in.readNBytes(count), charset);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read spilled response body: " + spillFile, e);
+        }
+    }
+
+    private static Path spill(byte[] content) {
+        try {
+            Path file = Files.createTempFile("api-response-", ".body");
+            Files.write(file, content);
+            logger.debug("Response body of {} bytes spilled to {}", content.length, file);
+            return file;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot spill response body to disk", e);
+        }
+    }
+
+    private static Charset charsetOf(String contentType) {
+        if (contentType != null) {
+            int index = contentType.toLowerCase(Locale.ROOT).indexOf("charset=");
+            if (index >= 0) {
+                String name = contentType.substring(index + "charset=".length()).split(";")[0].trim();
+                try {
+                    return Charset.forName(name.replace("\"", ""));
+                } catch (IllegalArgumentException e) {
+                    logger.debug("Unknown response charset '{}'; using UTF-8", name);
+                }
+            }
+        }
+        return StandardCharsets.UTF_8;
+    }
+
+    /** Cleaner action; must not reference the ResponseBody itself. */
+    private record DeleteFile(Path file) implements Runnable {
+        @Override
+        public void run() {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                logger.debug("Could not delete spilled response body {}", file, e);
+            }
+        }
+    }
+}
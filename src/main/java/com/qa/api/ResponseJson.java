@@ -0,0 +1,120 @@
+package com.qa.api;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.qa.utils.SharedObjectMapper;
+
+import io.restassured.path.json.JsonPath;
+
+/**
+ * ResponseJson — a response body parsed once into a Jackson tree.
+ *
+ * Field lookups go through cached {@link JsonFieldPath}s, so any number of
+ * assertions against the same response cost one parse. Expressions outside
+ * the compiled subset fall back to REST-Assured GPath on the same body.
+ */
+public final class ResponseJson {
+
+    private static final Logger logger = LogManager.getLogger(ResponseJson.class);
+    private static final ObjectMapper MAPPER = SharedObjectMapper.get();
+
+    private final ResponseBody body;
+    private final JsonNode root;
+    private JsonPath gpath;
+
+    private ResponseJson(ResponseBody body, JsonNode root) {
+        this.body = body;
+        this.root = root;
+    }
+
+    /**
+     * Parse a response body.
+     *
+     * @param body Response payload
+     * @return Parsed view of the body
+     * @throws UncheckedIOException if the body is not valid JSON
+     */
+    public static ResponseJson of(ResponseBody body) {
+        try (InputStream in = body.openStream()) {
+            return new ResponseJson(body, MAPPER.readTree(in));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Response body is not valid JSON: " + body, e);
+        }
+    }
+
+    /** @return Root of the parsed tree */
+    public JsonNode root() {
+        return root;
+    }
+
+    /**
+     * Look up a field the way GPath would report it: scalars as String,
+     * Number or Boolean, arrays as List and objects as Map.
+     *
+     * @param expression Field expression, e.g. {@code address.city} or {@code [0].id}
+     * @return Value, or null when the field is absent or JSON null
+     */
+    public Object get(String expression) {
+        Optional<JsonFieldPath> path = JsonFieldPath.compile(expression);
+        if (path.isEmpty()) {
+            return gpath().get(expression);
+        }
+        return toValue(path.get().resolve(root));
+    }
+
+    /**
+     * Compare several fields against expected text in a single pass.
+     *
+     * @param expected Field expression → expected value (compared as text)
+     * @return Human-readable mismatch lines; empty when every field matches
+     */
+    public List<String> mismatches(Map<String, String> expected) {
+        List<String> mismatches = new ArrayList<>();
+        expected.forEach((field, value) -> {
+            String actual = String.valueOf(get(field));
+            if (!actual.equals(value)) {
+                mismatches.add("'" + field + "': expected '" + value + "' but was '" + actual + "'");
+            }
+        });
+        return mismatches;
+    }
+
+    // -------------------------------------------------------------------------
+    // Internal
+    // -------------------------------------------------------------------------
+
+    private static Object toValue(JsonNode node) {
+        if (node.isMissingNode() || node.isNull()) {
+            return null;
+        }
+        if (node.isTextual()) {
+            return node.textValue();
+        }
+        if (node.isNumber()) {
+            return node.numberValue();
+        }
+        if (node.isBoolean()) {
+            return node.booleanValue();
+        }
+        return MAPPER.convertValue(node, Object.class);
+    }
+
+    private JsonPath gpath() {
+        if (gpath == null) {
+            logger.debug("Falling back to GPath for this response");
+            gpath = new JsonPath(body.asString());
+        }
+        return gpath;
+    }
+}
@@ -0,0 +1,176 @@
+package com.qa.api;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.qa.utils.ConfigManager;
+
+import io.restassured.response.Response;
+
+/**
+ * RetryPolicy — retries transient failures of idempotent calls.
+ *
+ * Only GET, HEAD, OPTIONS, PUT and DELETE are retried; POST and PATCH are
+ * always attempted once, since repeating them could create duplicates. An
+ * attempt is transient when it fails with an I/O error (connection refused
+ * or reset, no response, read timeout) or returns one of the retry statuses.
+ * Waits grow exponentially from the base delay with full jitter, capped at
+ * the max delay; a Retry-After header in seconds raises the wait (up to the
+ * cap). A {@link CircuitOpenException} is never retried.
+ */
+public final class RetryPolicy implements ResiliencePolicy {
+
+    private static final Logger logger = LogManager.getLogger(RetryPolicy.class);
+
+    private static final LongAdder retries = new LongAdder();
+    private static final LongAdder recovered = new LongAdder();
+    private static final LongAdder exhausted = new LongAdder();
+
+    private final int maxAttempts;
+    private final long baseDelayMillis;
+    private final long maxDelayMillis;
+    private final Set<Integer> retryStatuses;
+
+    /**
+     * @param maxAttempts     Attempts per call, including the first
+     * @param baseDelayMillis Upper bound of the first wait
+     * @param maxDelayMillis  Upper bound of any wait
+     * @param retryStatuses   Response statuses treated as transient
+     */
+    public RetryPolicy(int maxAttempts, long baseDelayMillis, long maxDelayMillis, Set<Integer> retryStatuses) {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("maxAttempts must be at least 1: " + maxAttempts);
+        }
+        this.maxAttempts = maxAttempts;
+        this.baseDelayMillis = baseDelayMillis;
+        this.maxDelayMillis = maxDelayMillis;
+        this.retryStatuses = Set.copyOf(retryStatuses);
+    }
+
+    /** @return Policy configured under api.retry */
+    public static RetryPolicy fromConfig() {
+        return new RetryPolicy(ConfigManager.getAPIRetryMaxAttempts(), ConfigManager.getAPIRetryBaseDelayMillis(),
+                ConfigManager.getAPIRetryMaxDelayMillis(), Set.copyOf(ConfigManager.getAPIRetryStatuses()));
+    }
+
+    @Override
+    public Response execute(Call call, Supplier<Response> attempt) {
+        if (!call.isIdempotent() || maxAttempts == 1) {
+            return attempt.get();
+        }
+        for (int number = 1; ; number++) {
+            Response response;
+            try {
+                response = attempt.get();
+            } catch (CircuitOpenException e) {
+                throw e;
+            } catch (Exception e) {
+                if (!isTransient(e) || !retryAfter(call, number, describe(e), backoff(number, 0))) {
+                    throw e;
+                }
+                continue;
+            }
+            int status = response.getStatusCode();
+            if (!retryStatuses.contains(status)) {
+                if (number > 1) {
+                    recovered.increment();
+                    ResilienceEvents.publish(logger, Level.INFO,
+                            call + " succeeded on attempt " + number + " of " + maxAttempts);
+                }
+                return response;
+            }
+            if (!retryAfter(call, number, "status " + status, backoff(number, retryAfterMillis(response)))) {
+                return response;
+            }
+        }
+    }
+
+    /** @return Retries made since the JVM started */
+    static long retries() {
+        return retries.sum();
+    }
+
+    /** @return Calls that succeeded after at least one retry */
+    static long recovered() {
+        return recovered.sum();
+    }
+
+    /** @return Calls that ran out of attempts */
+    static long exhausted() {
+        return exhausted.sum();
+    }
+
+    // -------------------------------------------------------------------------
+    // Internal
+    // -------------------------------------------------------------------------
+
+    /**
+     * Wait before the next attempt, or report that attempts are used up.
+     *
+     * @return true when another attempt should be made
+     */
+    private boolean retryAfter(Call call, int number, String reason, long delayMillis) {
+        if (number >= maxAttempts) {
+            exhausted.increment();
+            ResilienceEvents.publish(logger, Level.WARN,
+                    call + " failed after " + number + " attempts (" + reason + ")");
+            return false;
+        }
+        retries.increment();
+        ResilienceEvents.publish(logger, Level.WARN, "Retrying " + call + " after " + reason
+                + " (attempt " + (number + 1) + " of " + maxAttempts + ", backoff " + delayMillis + " ms)");
+        try {
+            TimeUnit.MILLISECONDS.sleep(delayMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+        return true;
+    }
+
+    /** Full jitter: uniform in [0, min(max, base·2^(n-1))], but never below the server's Retry-After. */
+    private long backoff(int number, long retryAfterMillis) {
+        long ceiling = Math.min(maxDelayMillis, baseDelayMillis << Math.min(number - 1, 20));
+        long jittered = ThreadLocalRandom.current().nextLong(ceiling + 1);
+        return Math.min(maxDelayMillis, Math.max(jittered, retryAfterMillis));
+    }
+
+    private static long retryAfterMillis(Response response) {
+        String header = response.getHeader("Retry-After");
+        if (header == null) {
+            return 0;
+        }
+        try {
+            return TimeUnit.SECONDS.toMillis(Long.parseLong(header.trim()));
+        } catch (NumberFormatException e) {
+            return 0; // HTTP-date form — fall back to the computed backoff
+        }
+    }
+
+    private static boolean isTransient(Throwable failure) {
+        for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+            if (cause instanceof IOException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String describe(Throwable failure) {
+        return failure.getClass().getSimpleName() + (failure.getMessage() != null ? ": " + failure.getMessage() : "");
+    }
+
+    @Override
+    public String toString() {
+        return "retry " + maxAttempts + " attempts, backoff " + baseDelayMillis + "–" + maxDelayMillis
+                + " ms, statuses " + retryStatuses;
+    }
+}
@@ -0,0 +1,12 @@
+package com.qa.api.model;
+
+/**
+ * User — the fields of a /users resource our scenarios assert on.
+ * Any other fields in the payload are ignored when mapping.
+ *
+ * @param id       Server-assigned identifier
+ * @param name     Display name
+ * @param username Login name
+ * @param email    Contact email
+ */
+public record User(Integer id, String name, String username, String email) {}
@@ -0,0 +1,63 @@
+package com.qa.api.stub;
+
+import java.util.Locale;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.qa.utils.ConfigManager;
+
+/**
+ * StubBehaviour — how a stub route delays, fails and streams its responses.
+ *
+ * Defaults come from api.stub in application.conf; a route file may override
+ * any field per route or collection (camelCase keys of the same names).
+ *
+ * @param latency          Delay before the response starts
+ * @param errorRate        Fraction of requests that get a fault instead (0–1)
+ * @param errorStatus      Status of injected "status" faults
+ * @param errorKind        status — reply errorStatus; disconnect — drop the
+ *                         connection without any response
+ * @param chunkBytes       When &gt; 0, the body is streamed chunked in pieces of this size
+ * @param chunkDelayMillis Pause before each chunk after the first
+ */
+record StubBehaviour(StubLatency latency, double errorRate, int errorStatus, String errorKind,
+                     int chunkBytes, long chunkDelayMillis) {
+
+    StubBehaviour {
+        if (errorRate < 0 || errorRate > 1) {
+            throw new IllegalArgumentException("Stub errorRate must be between 0 and 1: " + errorRate);
+        }
+        errorKind = errorKind.toLowerCase(Locale.ROOT);
+        if (!errorKind.equals("status") && !errorKind.equals("disconnect")) {
+            throw new IllegalArgumentException("Stub errorKind must be status or disconnect: " + errorKind);
+        }
+    }
+
+    /** @return Behaviour configured under api.stub */
+    static StubBehaviour defaults() {
+        return new StubBehaviour(StubLatency.parse(ConfigManager.getAPIStubLatency()),
+                ConfigManager.getAPIStubErrorRate(), ConfigManager.getAPIStubErrorStatus(),
+                ConfigManager.getAPIStubErrorKind(), ConfigManager.getAPIStubChunkBytes(),
+                ConfigManager.getAPIStubChunkDelayMillis());
+    }
+
+    /**
+     * @param node Route or collection definition
+     * @return This behaviour with any fields the definition sets replaced
+     */
+    StubBehaviour overriddenBy(JsonNode node) {
+        return new StubBehaviour(
+                node.has("latency") ? StubLatency.parse(node.get("latency").asText()) : latency,
+                node.path("errorRate").asDouble(errorRate),
+                node.path("errorStatus").asInt(errorStatus),
+                node.path("errorKind").asText(errorKind),
+                node.path("chunkBytes").asInt(chunkBytes),
+                node.path("chunkDelayMillis").asLong(chunkDelayMillis));
+    }
+
+    @Override
+    public String toString() {
+        return "latency " + latency + ", errors " + errorRate + " (" + errorKind
+                + (errorKind.equals("status") ? " " + errorStatus : "") + ")"
+                + (chunkBytes > 0 ? ", " + chunkBytes + "-byte chunks every " + chunkDelayMillis + " ms" : "");
+    }
+}
@@ -0,0 +1,156 @@
+package com.qa.api.stub;
+
+import java.io.IOException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.qa.api.stub.StubRoute.StubRequest;
+import com.qa.api.stub.StubRoute.StubResponse;
+import com.qa.utils.SharedObjectMapper;
+
+/**
+ * StubCollection — a read-only REST resource in the style of json-server.
+ *
+ * Serves a JSON array of records that each carry an "id":
+ * <ul>
+ *   <li>GET /path — all records; field=value query parameters filter, and
+ *       _page/_limit paginate with X-Total-Count and an RFC 8288 Link header</li>
+ *   <li>GET /path/{id} — one record, 404 when unknown</li>
+ *   <li>POST /path — 201 echoing the body with the next free id</li>
+ *   <li>PUT, PATCH /path/{id} — 200 echoing the replaced or merged record</li>
+ *   <li>DELETE /path/{id} — 200 with an empty object</li>
+ * </ul>
+ * Writes are acknowledged but never stored, so every run and every thread sees
+ * the same data.
+ */
+final class StubCollection {
+
+    private static final ObjectMapper MAPPER = SharedObjectMapper.get();
+
+    private final String path;
+    private final ArrayNode records;
+    private final Map<String, JsonNode> byId = new LinkedHashMap<>();
+    private final int nextId;
+
+    StubCollection(String path, ArrayNode records) {
+        this.path = path;
+        this.records = records;
+        records.forEach(record -> byId.put(record.path("id").asText(), record));
+        this.nextId = byId.keySet().stream().mapToInt(id -> parseInt(id, 0)).max().orElse(0) + 1;
+    }
+
+    /** @return The six routes of this collection, all sharing one behaviour */
+    List<StubRoute> routes(StubBehaviour behaviour) {
+        String item = path + "/{id}";
+        return List.of(
+                StubRoute.of("GET", path, behaviour, this::list),
+                StubRoute.of("GET", item, behaviour, request -> find(request)
+                        .map(record -> StubResponse.json(200, record))
+                        .orElseGet(StubCollection::notFound)),
+                StubRoute.of("POST", path, behaviour, request ->
+                        StubResponse.json(201, body(request).put("id", nextId))),
+                StubRoute.of("PUT", item, behaviour, request -> find(request)
+                        .map(record -> StubResponse.json(200, body(request).set("id", record.get("id"))))
+                        .orElseGet(StubCollection::notFound)),
+                StubRoute.of("PATCH", item, behaviour, request -> find(request)
+                        .map(record -> StubResponse.json(200, ((ObjectNode) record.deepCopy()).setAll(body(request))))
+                        .orElseGet(StubCollection::notFound)),
+                StubRoute.of("DELETE", item, behaviour, request -> find(request)
+                        .map(record -> StubResponse.json(200, MAPPER.createObjectNode()))
+                        .orElseGet(StubCollection::notFound)));
+    }
+
+    // -------------------------------------------------------------------------
+    // Internal
+    // -------------------------------------------------------------------------
+
+    private StubResponse list(StubRequest request) {
+        List<JsonNode> matching = new ArrayList<>();
+        records.forEach(record -> {
+            boolean keep = request.query().entrySet().stream()
+                    .filter(param -> !param.getKey().startsWith("_"))
+                    .allMatch(param -> record.path(param.getKey()).asText().equals(param.getValue()));
+            if (keep) {
+                matching.add(record);
+            }
+        });
+
+        Map<String, String> headers = new LinkedHashMap<>();
+        headers.put("X-Total-Count", String.valueOf(matching.size()));
+        List<JsonNode> page = matching;
+        String pageParam = request.query().get("_page");
+        if (pageParam != null) {
+            int limit = Math.max(1, parseInt(request.query().get("_limit"), 10));
+            int pages = Math.max(1, (matching.size() + limit - 1) / limit);
+            int number = Math.max(1, parseInt(pageParam, 1));
+            int from = Math.min(matching.size(), (number - 1) * limit);
+            page = matching.subList(from, Math.min(matching.size(), from + limit));
+            headers.put("Link", links(request, number, pages));
+        }
+        return StubResponse.json(200, headers, MAPPER.createArrayNode().addAll(page));
+    }
+
+    private String links(StubRequest request, int number, int pages) {
+        List<String> links = new ArrayList<>();
+        links.add(link(request, 1, "first"));
+        if (number > 1) {
+            links.add(link(request, number - 1, "prev"));
+        }
+        if (number < pages) {
+            links.add(link(request, number + 1, "next"));
+        }
+        links.add(link(request, pages, "last"));
+        return String.join(", ", links);
+    }
+
+    private static String link(StubRequest request, int number, String rel) {
+        Map<String, String> query = new LinkedHashMap<>(request.query());
+        query.put("_page", String.valueOf(number));
+        String encoded = query.entrySet().stream()
+                .map(param -> URLEncoder.encode(param.getKey(), StandardCharsets.UTF_8) + "="
+                        + URLEncoder.encode(param.getValue(), StandardCharsets.UTF_8))
+                .collect(Collectors.joining("&"));
+        return "<" + request.origin() + request.path() + "?" + encoded + ">; rel=\"" + rel + "\"";
+    }
+
+    private Optional<JsonNode> find(StubRequest request) {
+        return Optional.ofNullable(byId.get(request.pathParams().get("id")));
+    }
+
+    private static ObjectNode body(StubRequest request) {
+        if (request.body().length == 0) {
+            return MAPPER.createObjectNode();
+        }
+        try {
+            JsonNode body = MAPPER.readTree(request.body());
+            if (!(body instanceof ObjectNode object)) {
+                throw new IllegalArgumentException("Request body must be a JSON object");
+            }
+            return object;
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Request body is not valid JSON", e);
+        }
+    }
+
+    private static StubResponse notFound() {
+        return StubResponse.json(404, MAPPER.createObjectNode());
+    }
+
+    private static int parseInt(String value, int fallback) {
+        try {
+            return value == null ? fallback : Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            return fallback;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.qa.api.stub;
+
+import java.util.Locale;
+import java.util.random.RandomGenerator;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * StubLatency — response delay distribution of a stub route.
+ *
+ * Written as {@code name(arg, ...)} in application.conf and in route files:
+ * <ul>
+ *   <li>none                    — no added delay</li>
+ *   <li>fixed(ms)               — always {@code ms}</li>
+ *   <li>uniform(min, max)       — evenly spread between min and max</li>
+ *   <li>normal(mean, stddev)    — Gaussian, clamped at 0</li>
+ *   <li>lognormal(median, sigma) — long right tail, the usual shape of real
+ *       service latency; sigma 0.5 puts p99 at roughly 3.2× the median</li>
+ * </ul>
+ *
+ * @param distribution Distribution name
+ * @param first        First argument in milliseconds
+ * @param second       Second argument (milliseconds, or sigma for lognormal)
+ */
+record StubLatency(String distribution, double first, double second) {
+
+    static final StubLatency NONE = new StubLatency("none", 0, 0);
+
+    private static final Pattern SPEC = Pattern.compile(
+            "\\s*(\\w+)\\s*(?:\\(\\s*([\\d.]+)\\s*(?:,\\s*([\\d.]+)\\s*)?\\))?\\s*");
+
+    /**
+     * @param spec e.g. "uniform(20, 80)"
+     * @return Parsed distribution
+     * @throws IllegalArgumentException for unknown names or missing arguments
+     */
+    static StubLatency parse(String spec) {
+        Matcher matcher = SPEC.matcher(spec);
+        if (!matcher.matches()) {
+            throw new IllegalArgumentException("Invalid stub latency '" + spec + "'");
+        }
+        String name = matcher.group(1).toLowerCase(Locale.ROOT);
+        int arity = switch (name) {
+            case "none" -> 0;
+            case "fixed" -> 1;
+            case "uniform", "normal", "lognormal" -> 2;
+            default -> throw new IllegalArgumentException("Unknown stub latency '" + name
+                    + "'; expected none, fixed, uniform, normal or lognormal");
+        };
+        int given = matcher.group(3) != null ? 2 : matcher.group(2) != null ? 1 : 0;
+        if (given != arity) {
+            throw new IllegalArgumentException("Stub latency " + name + " takes " + arity
+                    + " argument(s): '" + spec + "'");
+        }
+        return new StubLatency(name,
+                given > 0 ? Double.parseDouble(matcher.group(2)) : 0,
+                given > 1 ? Double.parseDouble(matcher.group(3)) : 0);
+    }
+
+    /** @return One delay in milliseconds drawn from the distribution */
+    long sampleMillis(RandomGenerator random) {
+        double millis = switch (distribution) {
+            case "fixed" -> first;
+            case "uniform" -> first + random.nextDouble() * (second - first);
+            case "normal" -> first + random.nextGaussian() * second;
+            case "lognormal" -> first * Math.exp(random.nextGaussian() * second);
+            default -> 0;
+        };
+        return Math.max(0, Math.round(millis));
+    }
+
+    @Override
+    public String toString() {
+        return switch (distribution) {
+            case "none" -> "none";
+            case "fixed" -> "fixed(" + first + ")";
+            default -> distribution + "(" + first + ", " + second + ")";
+        };
+    }
+}
@@ -0,0 +1,141 @@
+package com.qa.api.stub;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.qa.utils.SharedObjectMapper;
+
+/**
+ * StubRoute — one method and path template served by the stub server.
+ *
+ * Templates use {name} segments (e.g. /users/{id}); the captured values are
+ * handed to the responder and can be echoed into static bodies as {{name}}.
+ *
+ * @param method     HTTP verb, upper case
+ * @param template   Path template as written in the route file
+ * @param pattern    Compiled template
+ * @param params     Template parameter names, in order
+ * @param behaviour  Latency, fault and streaming behaviour
+ * @param responder  Produces the response for a matched request
+ */
+record StubRoute(String method, String template, Pattern pattern, List<String> params,
+                 StubBehaviour behaviour, Responder responder) {
+
+    private static final Pattern PARAM = Pattern.compile("\\{(\\w+)}");
+
+    /**
+     * Builds the response for a matched request.
+     */
+    @FunctionalInterface
+    interface Responder {
+        StubResponse respond(StubRequest request);
+    }
+
+    /**
+     * A matched request as seen by a responder.
+     *
+     * @param method     HTTP verb
+     * @param path       Request path
+     * @param pathParams Values captured by the template
+     * @param query      Decoded query parameters (last value wins)
+     * @param body       Request body, empty when none was sent
+     * @param origin     scheme://host:port the client used, for absolute links
+     */
+    record StubRequest(String method, String path, Map<String, String> pathParams,
+                       Map<String, String> query, byte[] body, String origin) {}
+
+    /**
+     * A response to send.
+     *
+     * @param status  HTTP status
+     * @param headers Extra response headers
+     * @param body    Body bytes (JSON unless a Content-Type header says otherwise)
+     */
+    record StubResponse(int status, Map<String, String> headers, byte[] body) {
+
+        static StubResponse json(int status, JsonNode body) {
+            return json(status, Map.of(), body);
+        }
+
+        static StubResponse json(int status, Map<String, String> headers, JsonNode body) {
+            try {
+                return new StubResponse(status, headers, SharedObjectMapper.get().writeValueAsBytes(body));
+            } catch (IOException e) {
+                throw new RuntimeException("Cannot serialize stub response", e);
+            }
+        }
+
+        static StubResponse error(int status, String message) {
+            return json(status, SharedObjectMapper.get().createObjectNode().put("error", message));
+        }
+    }
+
+    static StubRoute of(String method, String template, StubBehaviour behaviour, Responder responder) {
+        List<String> params = new ArrayList<>();
+        Matcher matcher = PARAM.matcher(template);
+        StringBuilder regex = new StringBuilder();
+        int last = 0;
+        while (matcher.find()) {
+            regex.append(Pattern.quote(template.substring(last, matcher.start()))).append("([^/]+)");
+            params.add(matcher.group(1));
+            last = matcher.end();
+        }
+        regex.append(Pattern.quote(template.substring(last))).append("/?");
+        return new StubRoute(method.toUpperCase(Locale.ROOT), template,
+                Pattern.compile(regex.toString()), List.copyOf(params), behaviour, responder);
+    }
+
+    /**
+     * A route answering with a fixed status, headers and body; {{param}}
+     * placeholders in the body are replaced by the captured path values.
+     */
+    static StubRoute fixed(String method, String template, StubBehaviour behaviour,
+                           int status, Map<String, String> headers, byte[] body) {
+        String text = new String(body, StandardCharsets.UTF_8);
+        boolean templated = PARAM.matcher(template).find() && text.contains("{{");
+        return of(method, template, behaviour, request -> {
+            if (!templated) {
+                return new StubResponse(status, headers, body);
+            }
+            String filled = text;
+            for (Map.Entry<String, String> param : request.pathParams().entrySet()) {
+                filled = filled.replace("{{" + param.getKey() + "}}", param.getValue());
+            }
+            return new StubResponse(status, headers, filled.getBytes(StandardCharsets.UTF_8));
+        });
+    }
+
+    /**
+     * @param requestMethod HTTP verb of the request
+     * @param path          Request path
+     * @return Captured path values when this route serves the request
+     */
+    Optional<Map<String, String>> match(String requestMethod, String path) {
+        if (!method.equals(requestMethod)) {
+            return Optional.empty();
+        }
+        Matcher matcher = pattern.matcher(path);
+        if (!matcher.matches()) {
+            return Optional.empty();
+        }
+        Map<String, String> values = new LinkedHashMap<>();
+        for (int i = 0; i < params.size(); i++) {
+            values.put(params.get(i), matcher.group(i + 1));
+        }
+        return Optional.of(values);
+    }
+
+    @Override
+    public String toString() {
+        return method + " " + template;
+    }
+}
@@ -0,0 +1,302 @@
+package com.qa.api.stub;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.qa.api.stub.StubRoute.StubRequest;
+import com.qa.api.stub.StubRoute.StubResponse;
+import com.qa.utils.ConfigManager;
+import com.qa.utils.SharedObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * StubServer — in-JVM HTTP stand-in for the API under test.
+ *
+ * Enabled by api.stub.enabled (or TEST_ENV=stub); {@link ConfigManager#getAPIBaseURL()}
+ * then points at it and the first APIClient starts it, once per JVM. Routes
+ * come from the JSON files listed in api.stub.routes:
+ * <pre>
+ * {
+ *   "collections": [ { "path": "/users", "data": "stubs/data/users.json" } ],
+ *   "routes": [
+ *     { "method": "GET", "path": "/slow/users", "bodyFile": "stubs/data/users.json",
+ *       "chunkBytes": 128, "chunkDelayMillis": 100 },
+ *     { "method": "GET", "path": "/flaky/users/{id}", "body": { "id": "{{id}}" },
+ *       "latency": "lognormal(40, 0.5)", "errorRate": 0.2 }
+ *   ]
+ * }
+ * </pre>
+ * Collections behave like json-server resources ({@link StubCollection});
+ * routes answer with a fixed status, headers and body. Every route applies
+ * a {@link StubBehaviour}: latency drawn from a distribution, injected faults
+ * and optionally a slowly streamed body. Random draws come from api.stub.seed
+ * and the request sequence number, so a single-threaded run sees the same
+ * delays and faults every time.
+ */
+public final class StubServer {
+
+    private static final Logger logger = LogManager.getLogger(StubServer.class);
+    private static final ObjectMapper MAPPER = SharedObjectMapper.get();
+
+    private static HttpServer server;
+    private static ExecutorService executor;
+    private static List<StubRoute> routes = List.of();
+    private static long seed;
+    private static final AtomicLong sequence = new AtomicLong();
+    private static final LongAdder served = new LongAdder();
+    private static final LongAdder faults = new LongAdder();
+    private static final LongAdder unmatched = new LongAdder();
+
+    private StubServer() {
+        // Utility class — do not instantiate
+    }
+
+    /**
+     * Start the server on api.stub.port unless it is already running.
+     *
+     * @return Base URL of the server
+     */
+    public static synchronized String start() {
+        if (server == null) {
+            int port = ConfigManager.getAPIStubPort();
+            routes = loadRoutes(ConfigManager.getAPIStubRoutes(), StubBehaviour.defaults());
+            seed = ConfigManager.getAPIStubSeed();
+            try {
+                server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+            } catch (IOException e) {
+                throw new RuntimeException("Cannot start stub server on port " + port
+                        + " (api.stub.port / STUB_PORT)", e);
+            }
+            executor = Executors.newVirtualThreadPerTaskExecutor();
+            server.setExecutor(executor);
+            server.createContext("/", StubServer::handle);
+            server.start();
+            Runtime.getRuntime().addShutdownHook(new Thread(StubServer::stop, "stub-server-shutdown"));
+            logger.info("Stub server listening on {} with {} routes", baseUrl(), routes.size());
+            routes.forEach(route -> logger.debug("  {} — {}", route, route.behaviour()));
+        }
+        return baseUrl();
+    }
+
+    /** Stop the server if it is running. */
+    public static synchronized void stop() {
+        if (server != null) {
+            server.stop(0);
+            executor.shutdownNow();
+            server = null;
+            logger.info("Stub server stopped; served {} requests ({} injected faults, {} unmatched)",
+                    served.sum(), faults.sum(), unmatched.sum());
+        }
+    }
+
+    /** @return true while the server is running */
+    public static synchronized boolean isRunning() {
+        return server != null;
+    }
+
+    /** @return Base URL of the running server */
+    public static synchronized String baseUrl() {
+        if (server == null) {
+            throw new IllegalStateException("Stub server is not running");
+        }
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    // -------------------------------------------------------------------------
+    // Request handling
+    // -------------------------------------------------------------------------
+
+    private static void handle(HttpExchange exchange) throws IOException {
+        served.increment();
+        SplittableRandom random = new SplittableRandom(seed + sequence.getAndIncrement());
+        try (exchange) {
+            String method = exchange.getRequestMethod();
+            String path = exchange.getRequestURI().getPath();
+            Optional<StubRoute> matched = Optional.empty();
+            Map<String, String> pathParams = Map.of();
+            for (StubRoute route : routes) {
+                Optional<Map<String, String>> values = route.match(method, path);
+                if (values.isPresent()) {
+                    matched = Optional.of(route);
+                    pathParams = values.get();
+                    break;
+                }
+            }
+            if (matched.isEmpty()) {
+                unmatched.increment();
+                logger.warn("No stub route for {} {}", method, path);
+                send(exchange, StubResponse.error(404, "No stub route for " + method + " " + path), 0, 0);
+                return;
+            }
+
+            StubBehaviour behaviour = matched.get().behaviour();
+            sleep(behaviour.latency().sampleMillis(random));
+            if (random.nextDouble() < behaviour.errorRate()) {
+                faults.increment();
+                if (behaviour.errorKind().equals("disconnect")) {
+                    // Closing without a status line makes the client see a dropped connection
+                    return;
+                }
+                send(exchange, StubResponse.error(behaviour.errorStatus(), "Injected fault"), 0, 0);
+                return;
+            }
+
+            StubRequest request = new StubRequest(method, path, pathParams,
+                    query(exchange.getRequestURI().getRawQuery()), readBody(exchange), origin(exchange));
+            StubResponse response;
+            try {
+                response = matched.get().responder().respond(request);
+            } catch (IllegalArgumentException e) {
+                response = StubResponse.error(400, e.getMessage());
+            }
+            send(exchange, response, behaviour.chunkBytes(), behaviour.chunkDelayMillis());
+        } catch (IOException e) {
+            // The client gave up (e.g. its read timeout fired during a slow body)
+            logger.debug("Stub response aborted: {}", e.getMessage());
+        }
+    }
+
+    private static void send(HttpExchange exchange, StubResponse response, int chunkBytes, long chunkDelayMillis)
+            throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        response.headers().forEach(exchange.getResponseHeaders()::set);
+        byte[] body = response.body();
+        if (chunkBytes <= 0 || body.length <= chunkBytes) {
+            exchange.sendResponseHeaders(response.status(), body.length == 0 ? -1 : body.length);
+            if (body.length > 0) {
+                exchange.getResponseBody().write(body);
+            }
+            return;
+        }
+        exchange.sendResponseHeaders(response.status(), 0);
+        OutputStream out = exchange.getResponseBody();
+        for (int offset = 0; offset < body.length; offset += chunkBytes) {
+            if (offset > 0) {
+                sleep(chunkDelayMillis);
+            }
+            out.write(body, offset, Math.min(chunkBytes, body.length - offset));
+            out.flush();
+        }
+    }
+
+    private static byte[] readBody(HttpExchange exchange) throws IOException {
+        try (InputStream in = exchange.getRequestBody()) {
+            return in.readAllBytes();
+        }
+    }
+
+    private static Map<String, String> query(String rawQuery) {
+        Map<String, String> query = new LinkedHashMap<>();
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return query;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int eq = pair.indexOf('=');
+            String key = eq >= 0 ? pair.substring(0, eq) : pair;
+            String value = eq >= 0 ? pair.substring(eq + 1) : "";
+            query.put(URLDecoder.decode(key, StandardCharsets.UTF_8), URLDecoder.decode(value, StandardCharsets.UTF_8));
+        }
+        return query;
+    }
+
+    private static String origin(HttpExchange exchange) {
+        String host = exchange.getRequestHeaders().getFirst("Host");
+        return "http://" + (host != null ? host : "localhost:" + exchange.getLocalAddress().getPort());
+    }
+
+    private static void sleep(long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            TimeUnit.MILLISECONDS.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // Route loading
+    // -------------------------------------------------------------------------
+
+    private static List<StubRoute> loadRoutes(List<String> files, StubBehaviour defaults) {
+        List<StubRoute> loaded = new ArrayList<>();
+        for (String file : files) {
+            JsonNode definition = readResource(file);
+            for (JsonNode collection : definition.path("collections")) {
+                JsonNode data = readResource(required(collection, "data", file));
+                if (!(data instanceof ArrayNode records)) {
+                    throw new IllegalArgumentException("Stub collection data must be a JSON array: "
+                            + collection.get("data").asText());
+                }
+                loaded.addAll(new StubCollection(required(collection, "path", file), records)
+                        .routes(defaults.overriddenBy(collection)));
+            }
+            for (JsonNode route : definition.path("routes")) {
+                loaded.add(fixedRoute(route, defaults, file));
+            }
+        }
+        return List.copyOf(loaded);
+    }
+
+    private static StubRoute fixedRoute(JsonNode route, StubBehaviour defaults, String file) {
+        byte[] body;
+        try {
+            if (route.has("bodyFile")) {
+                body = MAPPER.writeValueAsBytes(readResource(route.get("bodyFile").asText()));
+            } else if (route.has("body")) {
+                body = MAPPER.writeValueAsBytes(route.get("body"));
+            } else {
+                body = new byte[0];
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Cannot serialize stub body in " + file, e);
+        }
+        Map<String, String> headers = new LinkedHashMap<>();
+        route.path("headers").fields().forEachRemaining(header ->
+                headers.put(header.getKey(), header.getValue().asText()));
+        return StubRoute.fixed(route.path("method").asText("GET"), required(route, "path", file),
+                defaults.overriddenBy(route), route.path("status").asInt(200), Map.copyOf(headers), body);
+    }
+
+    private static JsonNode readResource(String name) {
+        try (InputStream in = StubServer.class.getClassLoader().getResourceAsStream(name)) {
+            if (in == null) {
+                throw new IllegalArgumentException("Stub resource not found on classpath: " + name);
+            }
+            return MAPPER.readTree(in);
+        } catch (IOException e) {
+            throw new RuntimeException("Cannot read stub resource: " + name, e);
+        }
+    }
+
+    private static String required(JsonNode node, String field, String file) {
+        if (!node.hasNonNull(field)) {
+            throw new IllegalArgumentException("Stub definition in " + file + " is missing '" + field + "': " + node);
+        }
+        return node.get(field).asText();
+    }
+}
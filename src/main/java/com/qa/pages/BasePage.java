@@ -25,6 +25,10 @@ public abstract class BasePage {
     protected final Page page;
     protected static final Logger logger = LogManager.getLogger(BasePage.class);
 
+    /**
+     * Binds the page object to the current thread's page. The first page
+     * object constructed in a scenario provisions the browser on demand.
+     */
     protected BasePage() {
         this.page = BrowserContextManager.getPage();
     }
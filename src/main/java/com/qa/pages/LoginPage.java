@@ -13,6 +13,7 @@ public class LoginPage extends BasePage {
     private static final String PASSWORD_INPUT = TestConstants.Selectors.PASSWORD_INPUT;
     private static final String LOGIN_BUTTON   = TestConstants.Selectors.LOGIN_BUTTON;
     private static final String ERROR_MESSAGE  = TestConstants.Selectors.ERROR_MESSAGE;
+    private static final String PRODUCTS_CONTAINER = TestConstants.Selectors.PRODUCTS_CONTAINER;
 
     @Step("Enter username: {username}")
     public void enterUsername(String username) {
@@ -37,6 +38,18 @@ public class LoginPage extends BasePage {
         logger.info("Login attempted with username: {}", username);
     }
 
+    /**
+     * Wait until either the product inventory or the login form renders.
+     * The application redirects unauthenticated visitors back to the login form.
+     *
+     * @return true if the session was accepted and the products page rendered
+     */
+    @Step("Check whether the current session is authenticated")
+    public boolean isSessionAuthenticated() {
+        waitForElement(PRODUCTS_CONTAINER + ", " + LOGIN_BUTTON);
+        return isElementVisible(PRODUCTS_CONTAINER);
+    }
+
     @Step("Get login error message")
     public String getErrorMessage() {
         return getText(ERROR_MESSAGE);
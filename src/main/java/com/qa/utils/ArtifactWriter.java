@@ -0,0 +1,148 @@
+package com.qa.utils;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import io.qameta.allure.Allure;
+import io.qameta.allure.AllureLifecycle;
+
+/**
+ * ArtifactWriter — background writer for screenshots and other test evidence.
+ *
+ * Callers hand over bytes already in memory and return immediately. The
+ * Allure attachment is registered on the caller's thread (so it belongs to
+ * the running scenario) and its content is written later by a background
+ * thread: screenshots are re-encoded as JPEG and written exactly once,
+ * straight into the Allure results. With Allure disabled they go to
+ * target/screenshots instead. Pending artifacts are flushed by a JVM
+ * shutdown hook.
+ */
+public final class ArtifactWriter {
+
+    private static final Logger logger = LogManager.getLogger(ArtifactWriter.class);
+    private static final String SCREENSHOT_DIR = "target/screenshots/";
+    private static final float JPEG_QUALITY = 0.8f;
+    private static final long FLUSH_TIMEOUT_SECONDS = 30;
+
+    private static final AtomicInteger pending = new AtomicInteger();
+    private static final ExecutorService writer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "artifact-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(ArtifactWriter::flush, "artifact-writer-flush"));
+    }
+
+    private ArtifactWriter() {
+        // Utility class — do not instantiate
+    }
+
+    /**
+     * Attach a screenshot to the running scenario without waiting for it to be
+     * compressed or written.
+     *
+     * @param name     Attachment name shown in the report
+     * @param fileName Base filename used when Allure is disabled (without extension)
+     * @param png      Screenshot as captured by Playwright
+     */
+    public static void attachScreenshot(String name, String fileName, byte[] png) {
+        if (!ConfigManager.isAllureEnabled()) {
+            submit(name, () -> {
+                Path path = Paths.get(SCREENSHOT_DIR, fileName + ".jpg");
+                Files.createDirectories(path.getParent());
+                Files.write(path, toJpeg(png));
+                logger.info("Screenshot written: {}", path);
+            });
+            return;
+        }
+        AllureLifecycle lifecycle = Allure.getLifecycle();
+        String source = lifecycle.prepareAttachment(name, "image/jpeg", ".jpg");
+        submit(name, () -> lifecycle.writeAttachment(source, new ByteArrayInputStream(toJpeg(png))));
+    }
+
+    // -------------------------------------------------------------------------
+    // Internal
+    // -------------------------------------------------------------------------
+
+    @FunctionalInterface
+    private interface Task {
+        void run() throws IOException;
+    }
+
+    private static void submit(String name, Task task) {
+        pending.incrementAndGet();
+        writer.execute(() -> {
+            try {
+                task.run();
+            } catch (IOException | RuntimeException e) {
+                logger.warn("Could not write artifact '{}'", name, e);
+            } finally {
+                pending.decrementAndGet();
+            }
+        });
+    }
+
+    /**
+     * Re-encode a PNG screenshot as JPEG, typically a fraction of the size.
+     * Falls back to the PNG bytes if encoding fails; report viewers sniff the
+     * image format, so the attachment still renders.
+     */
+    private static byte[] toJpeg(byte[] png) {
+        try {
+            BufferedImage source = ImageIO.read(new ByteArrayInputStream(png));
+            if (source == null) {
+                return png;
+            }
+            // JPEG has no alpha channel
+            BufferedImage rgb = new BufferedImage(source.getWidth(), source.getHeight(), BufferedImage.TYPE_INT_RGB);
+            rgb.createGraphics().drawImage(source, 0, 0, null);
+
+            ImageWriter jpeg = ImageIO.getImageWritersByFormatName("jpeg").next();
+            ImageWriteParam params = jpeg.getDefaultWriteParam();
+            params.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            params.setCompressionQuality(JPEG_QUALITY);
+            ByteArrayOutputStream out = new ByteArrayOutputStream(png.length / 2);
+            try (ImageOutputStream stream = ImageIO.createImageOutputStream(out)) {
+                jpeg.setOutput(stream);
+                jpeg.write(null, new IIOImage(rgb, null, null), params);
+            } finally {
+                jpeg.dispose();
+            }
+            return out.toByteArray();
+        } catch (IOException | RuntimeException e) {
+            logger.debug("JPEG re-encoding failed; keeping the PNG screenshot", e);
+            return png;
+        }
+    }
+
+    private static void flush() {
+        writer.shutdown();
+        try {
+            if (!writer.awaitTermination(FLUSH_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                logger.warn("{} artifacts were not written within {} s", pending.get(), FLUSH_TIMEOUT_SECONDS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
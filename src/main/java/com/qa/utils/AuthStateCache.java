@@ -0,0 +1,85 @@
+package com.qa.utils;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * AuthStateCache — per-user cache of authenticated Playwright storage state.
+ *
+ * After one UI login per user, the context's storageState (cookies + local
+ * storage) is kept here so later contexts can start already signed in.
+ * Entries expire after auth.cache.ttl-seconds, and callers invalidate an
+ * entry as soon as the application under test rejects the session. Sessions
+ * are kept per environment, since each one signs in to a different target.
+ */
+public final class AuthStateCache {
+
+    private static final Logger logger = LogManager.getLogger(AuthStateCache.class);
+    private static final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    private record Entry(String storageState, Instant expiresAt) {}
+
+    private AuthStateCache() {
+        // Utility class — do not instantiate
+    }
+
+    /**
+     * Look up a still-valid storage state for the given user.
+     *
+     * @param username Test user name (see {@link TestConstants.TestUsers})
+     * @return Storage state JSON, or empty when caching is disabled, absent or expired
+     */
+    public static Optional<String> get(String username) {
+        if (!ConfigManager.isAuthCacheEnabled()) {
+            return Optional.empty();
+        }
+        String key = key(username);
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return Optional.empty();
+        }
+        if (Instant.now().isAfter(entry.expiresAt())) {
+            entries.remove(key, entry);
+            logger.info("Cached session for '{}' expired", username);
+            return Optional.empty();
+        }
+        return Optional.of(entry.storageState());
+    }
+
+    /**
+     * Store the storage state captured right after a successful login.
+     *
+     * @param username     Test user name
+     * @param storageState Storage state JSON from {@code BrowserContext.storageState()}
+     */
+    public static void put(String username, String storageState) {
+        if (!ConfigManager.isAuthCacheEnabled()) {
+            return;
+        }
+        Duration ttl = Duration.ofSeconds(ConfigManager.getAuthCacheTtlSeconds());
+        entries.put(key(username), new Entry(storageState, Instant.now().plus(ttl)));
+        logger.info("Cached session for '{}' (ttl: {} s)", username, ttl.toSeconds());
+    }
+
+    /**
+     * Drop the cached session for a user, e.g. after the application rejected it.
+     *
+     * @param username Test user name
+     */
+    public static void invalidate(String username) {
+        if (entries.remove(key(username)) != null) {
+            logger.info("Cached session for '{}' invalidated", username);
+        }
+    }
+
+    /** @return Cache key of the user in the current thread's environment */
+    private static String key(String username) {
+        return ConfigManager.getEnvironment() + "/" + username;
+    }
+}
@@ -1,5 +1,8 @@
 package com.qa.utils;
 
+import java.util.List;
+import java.util.Optional;
+
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -11,8 +14,15 @@ import com.microsoft.playwright.Playwright;
 
 /**
  * BrowserContextManager handles Playwright browser and context lifecycle.
- * Usage: call initBrowser() → createContext() → createPage() before tests,
- * and closeBrowser() in teardown (which also calls ThreadLocal.remove()).
+ * Resources are provisioned lazily: the first getPage() call on a thread
+ * creates the browser → context → page chain, and closeBrowser() in teardown
+ * releases whatever was created (which also calls ThreadLocal.remove()).
+ * Scenarios bound via {@link ScenarioContext} that do not require a browser
+ * (e.g. @api) are refused a browser outright.
+ *
+ * When browser.pool.enabled is set, initBrowser() borrows a long-lived browser
+ * from {@link BrowserPool} and closeBrowser() hands it back instead of closing
+ * it; each scenario still gets its own fresh context and page.
  */
 public class BrowserContextManager {
 
@@ -22,61 +32,162 @@ public class BrowserContextManager {
     private static final ThreadLocal<Browser> browserHolder = new ThreadLocal<>();
     private static final ThreadLocal<BrowserContext> contextHolder = new ThreadLocal<>();
     private static final ThreadLocal<Page> pageHolder = new ThreadLocal<>();
+    private static final ThreadLocal<BrowserPool.Slot> slotHolder = new ThreadLocal<>();
+    private static final ThreadLocal<String> storageStateHolder = new ThreadLocal<>();
+    private static final ThreadLocal<NetworkBlocker> blockerHolder = new ThreadLocal<>();
+    private static final ThreadLocal<HarArchive.Recording> recordingHolder = new ThreadLocal<>();
 
     private BrowserContextManager() {
         // Utility class — do not instantiate
     }
 
     /**
-     * Initialize Playwright and launch a browser for the current thread.
+     * Initialize Playwright and launch a browser for the current thread, or
+     * borrow one from the shared pool when pooling is enabled.
      * Browser type and headless mode are read from ConfigManager.
      *
+     * @throws IllegalStateException if the bound scenario must not use a browser
      * @throws RuntimeException if browser initialization fails
      */
     public static void initBrowser() {
+        ScenarioContext.current()
+                .filter(scenario -> !scenario.requiresBrowser())
+                .ifPresent(scenario -> {
+                    throw new IllegalStateException("Scenario '" + scenario.name()
+                            + "' is tagged " + TestConstants.Tags.API + " and must not use a browser");
+                });
+        if (ConfigManager.isBrowserPoolEnabled()) {
+            BrowserPool.Slot slot = BrowserPool.acquire();
+            slotHolder.set(slot);
+            browserHolder.set(slot.browser());
+            logger.info("Browser borrowed from pool (thread: {})", Thread.currentThread().threadId());
+            return;
+        }
         try {
             Playwright playwright = Playwright.create();
             playwrightHolder.set(playwright);
-
-            String browserType = ConfigManager.getBrowserType();
-            BrowserType.LaunchOptions options = new BrowserType.LaunchOptions()
-                    .setHeadless(ConfigManager.isHeadless());
-
-            Browser browser = switch (browserType.toLowerCase()) {
-                case "firefox" -> playwright.firefox().launch(options);
-                case "webkit"  -> playwright.webkit().launch(options);
-                default        -> playwright.chromium().launch(options);
-            };
-            browserHolder.set(browser);
-
-            logger.info("Browser launched: {} (headless: {}, thread: {})",
-                    browserType, ConfigManager.isHeadless(), Thread.currentThread().threadId());
+            browserHolder.set(launchBrowser(playwright));
         } catch (Exception e) {
             logger.error("Failed to initialize browser", e);
             throw new RuntimeException("Browser initialization failed", e);
         }
     }
 
+    /**
+     * Launch the configured browser type on the given Playwright instance.
+     *
+     * @param playwright Playwright driver that will own the browser
+     * @return Launched browser
+     */
+    static Browser launchBrowser(Playwright playwright) {
+        String browserType = ConfigManager.getBrowserType();
+        BrowserType.LaunchOptions options = new BrowserType.LaunchOptions()
+                .setHeadless(ConfigManager.isHeadless());
+
+        Browser browser = switch (browserType.toLowerCase()) {
+            case "firefox" -> playwright.firefox().launch(options);
+            case "webkit"  -> playwright.webkit().launch(options);
+            default        -> playwright.chromium().launch(options);
+        };
+
+        logger.info("Browser launched: {} (headless: {}, thread: {})",
+                browserType, ConfigManager.isHeadless(), Thread.currentThread().threadId());
+        return browser;
+    }
+
     /**
      * Create a new isolated browser context for the current thread.
-     * Initializes the browser first if not already done.
+     * Initializes the browser first if not already done. When a storage state
+     * was supplied via {@link #useStorageState(String)}, the context starts
+     * with those cookies and local storage; otherwise a pooled browser's
+     * pre-warmed standby context (and its page) is used when one is ready
+     * and was warmed on the base URL of the thread's bound environment.
+     * Either way the context's request blocking is bound to the policy of
+     * the current scenario's tags. In HAR record/replay mode the context
+     * records into, or is served from, the scenario's feature archive.
      */
     public static void createContext() {
         if (browserHolder.get() == null) {
             initBrowser();
         }
-        BrowserContext context = browserHolder.get().newContext();
+        String storageState = storageStateHolder.get();
+        BrowserPool.Slot slot = slotHolder.get();
+        HarArchive.Mode networkMode = HarArchive.mode();
+        if (storageState == null && slot != null && networkMode == HarArchive.Mode.LIVE) {
+            BrowserPool.Standby standby = slot.takeStandby(ConfigManager.getBaseURL());
+            if (standby != null) {
+                contextHolder.set(standby.context());
+                pageHolder.set(standby.page());
+                bindBlocker(standby.blocker());
+                logger.info("Standby browser context taken from pool (thread: {})",
+                        Thread.currentThread().threadId());
+                return;
+            }
+        }
+        Browser.NewContextOptions options = new Browser.NewContextOptions();
+        if (storageState != null) {
+            options.setStorageState(storageState);
+        }
+        if (networkMode == HarArchive.Mode.RECORD) {
+            recordingHolder.set(HarArchive.startRecording(options));
+        }
+        NetworkBlocker blocker = newBlocker();
+        bindBlocker(blocker);
+        BrowserContext context = openContext(browserHolder.get(), options, blocker);
         contextHolder.set(context);
-        logger.info("Browser context created (thread: {})", Thread.currentThread().threadId());
+        if (networkMode == HarArchive.Mode.REPLAY) {
+            HarArchive.replay(context);
+        }
+        logger.info("Browser context created (thread: {}, network: {})",
+                Thread.currentThread().threadId(), networkMode);
+    }
+
+    /**
+     * Open a context on the given browser. Every context — per-scenario or
+     * pre-warmed standby — is created here.
+     *
+     * @param browser Browser to open the context on
+     * @param options Context options
+     * @param blocker Request blocker to install, or null for unrestricted traffic
+     * @return New browser context
+     */
+    static BrowserContext openContext(Browser browser, Browser.NewContextOptions options,
+                                      NetworkBlocker blocker) {
+        BrowserContext context = browser.newContext(options);
+        if (blocker != null) {
+            blocker.install(context);
+        }
+        return context;
+    }
+
+    /** @return Blocker carrying the default policy, or null when blocking is not configured */
+    static NetworkBlocker newBlocker() {
+        return NetworkBlockPolicy.isConfigured()
+                ? new NetworkBlocker(NetworkBlockPolicy.defaultPolicy())
+                : null;
+    }
+
+    private static void bindBlocker(NetworkBlocker blocker) {
+        if (blocker == null) {
+            blockerHolder.remove();
+            return;
+        }
+        List<String> tags = ScenarioContext.current().map(ScenarioContext::tags).orElse(List.of());
+        blocker.bind(NetworkBlockPolicy.forTags(tags));
+        blockerHolder.set(blocker);
     }
 
     /**
      * Create a new page within the current thread's browser context.
-     * Creates a context first if not already done.
+     * Creates a context first if not already done; a standby context already
+     * comes with its page.
      */
     public static void createPage() {
         if (contextHolder.get() == null) {
             createContext();
+            if (pageHolder.get() != null) {
+                return;
+            }
         }
         Page page = contextHolder.get().newPage();
         pageHolder.set(page);
@@ -96,6 +207,47 @@ public class BrowserContextManager {
         return pageHolder.get();
     }
 
+    /**
+     * Replace the current thread's context and page with fresh ones that start
+     * from the given storage state (e.g. a cached authenticated session).
+     *
+     * @param storageState Storage state JSON from {@link #captureStorageState()}
+     */
+    public static void useStorageState(String storageState) {
+        closePage();
+        closeContext();
+        storageStateHolder.set(storageState);
+        createPage();
+        logger.info("Context recreated from stored session (thread: {})", Thread.currentThread().threadId());
+    }
+
+    /**
+     * Snapshot the cookies and local storage of the current thread's context.
+     *
+     * @return Storage state JSON
+     */
+    public static String captureStorageState() {
+        return getPage().context().storageState();
+    }
+
+    /**
+     * @return Per-type count of requests blocked in the current thread's context,
+     *         or empty when no context was opened or blocking is not configured
+     */
+    public static Optional<String> getBlockedRequestSummary() {
+        return Optional.ofNullable(blockerHolder.get()).map(NetworkBlocker::summary);
+    }
+
+    /** @return Current shared browser pool and standby metrics */
+    public static BrowserPoolStats getPoolStats() {
+        return BrowserPool.stats();
+    }
+
+    /** @return true if a page has already been provisioned on the current thread */
+    public static boolean hasPage() {
+        return pageHolder.get() != null;
+    }
+
     /**
      * Navigate to a URL on the current thread's page.
      *
@@ -120,23 +272,41 @@ public class BrowserContextManager {
 
     /**
      * Close and nullify the current thread's browser context.
+     * A context in HAR record mode flushes its recording into the feature archive.
      */
     public static void closeContext() {
         BrowserContext context = contextHolder.get();
         if (context != null) {
             context.close();
             contextHolder.remove();
+            blockerHolder.remove();
+            HarArchive.Recording recording = recordingHolder.get();
+            if (recording != null) {
+                recordingHolder.remove();
+                HarArchive.finishRecording(recording);
+            }
             logger.info("Context closed (thread: {})", Thread.currentThread().threadId());
         }
     }
 
     /**
      * Close all browser resources for the current thread and clean up ThreadLocals.
+     * A pooled browser is returned to the pool rather than closed.
      * Must be called in test teardown to prevent memory leaks.
      */
     public static void closeBrowser() {
         closePage();
         closeContext();
+        storageStateHolder.remove();
+
+        BrowserPool.Slot slot = slotHolder.get();
+        if (slot != null) {
+            browserHolder.remove();
+            slotHolder.remove();
+            BrowserPool.release(slot);
+            logger.info("Browser returned to pool (thread: {})", Thread.currentThread().threadId());
+            return;
+        }
 
         Browser browser = browserHolder.get();
         if (browser != null) {
@@ -162,7 +332,10 @@ public class BrowserContextManager {
         closePage();
         closeContext();
         createContext();
-        createPage();
+        if (pageHolder.get() == null) {
+            // A standby context comes with its page
+            createPage();
+        }
         logger.info("Browser reset (thread: {})", Thread.currentThread().threadId());
     }
 }
@@ -0,0 +1,361 @@
+package com.qa.utils;
+
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.microsoft.playwright.Browser;
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.Playwright;
+
+/**
+ * BrowserPool — process-wide pool of long-lived Playwright browsers.
+ *
+ * Each slot owns its own Playwright driver and Browser. A scenario thread
+ * borrows a slot exclusively and opens fresh contexts on it, so Playwright
+ * objects are never driven by two threads at the same time. Slots are
+ * launched lazily up to the configured size and closed by a JVM shutdown hook.
+ *
+ * With browser.pool.standby > 0 the pool holds that many extra slots and
+ * keeps a pre-warmed context + page (already on the base URL) in every idle
+ * slot. A released slot is refilled on a background thread before it goes
+ * back to the idle queue, so the refill never races the scenario that owned it.
+ * Standby is off in HAR record/replay mode, where every context needs
+ * feature-specific options. Standby contexts are warmed on the default
+ * environment's base URL; a borrower whose thread is bound to another
+ * environment, or who runs after a reload changed base.url, gets its own
+ * context and the stale standby is closed.
+ */
+final class BrowserPool {
+
+    private static final Logger logger = LogManager.getLogger(BrowserPool.class);
+    private static final String PARALLELISM_PROPERTY = "cucumber.execution.parallel.config.fixed.parallelism";
+    private static final long WAIT_SLICE_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private static final int STANDBY = HarArchive.mode() == HarArchive.Mode.LIVE
+            ? Math.max(0, ConfigManager.getBrowserPoolStandby())
+            : 0;
+    private static final int SIZE = resolveSize() + STANDBY;
+    private static final BlockingQueue<Slot> idleSlots = new LinkedBlockingQueue<>();
+    private static final List<Slot> allSlots = new CopyOnWriteArrayList<>();
+    private static final AtomicInteger launchedCount = new AtomicInteger();
+    private static final ExecutorService refillExecutor = STANDBY > 0 ? newRefillExecutor() : null;
+    private static volatile boolean shutDown;
+
+    // Metrics
+    private static final LongAdder standbyHits = new LongAdder();
+    private static final LongAdder standbyMisses = new LongAdder();
+    private static final LongAdder refills = new LongAdder();
+    private static final AtomicLong refillNanosTotal = new AtomicLong();
+    private static final LongAccumulator refillNanosMax = new LongAccumulator(Math::max, 0);
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(BrowserPool::shutdown, "browser-pool-shutdown"));
+        ConfigManager.addReloadListener(BrowserPool::onReload);
+        for (int i = 0; i < STANDBY; i++) {
+            refillExecutor.execute(BrowserPool::prewarm);
+        }
+    }
+
+    private BrowserPool() {
+        // Utility class — do not instantiate
+    }
+
+    /**
+     * A pre-warmed context and its page, ready to be handed to a scenario.
+     *
+     * @param baseUrl Base URL the page was navigated to
+     */
+    record Standby(BrowserContext context, Page page, NetworkBlocker blocker, String baseUrl) {}
+
+    /**
+     * A pooled Playwright driver and the browser it launched.
+     */
+    static final class Slot {
+
+        private final Playwright playwright;
+        private final Browser browser;
+        private Standby standby;
+
+        private Slot(Playwright playwright, Browser browser) {
+            this.playwright = playwright;
+            this.browser = browser;
+        }
+
+        Browser browser() {
+            return browser;
+        }
+
+        /**
+         * Hand over the slot's pre-warmed context, counting a standby hit or miss.
+         * A standby warmed on another base URL is closed and counts as a miss.
+         *
+         * @param baseUrl Base URL of the borrower's environment
+         * @return Standby context and page, or null when none is ready
+         */
+        Standby takeStandby(String baseUrl) {
+            Standby taken = standby;
+            standby = null;
+            if (taken != null && !taken.baseUrl().equals(baseUrl)) {
+                closeQuietly(taken.context());
+                taken = null;
+            }
+            if (STANDBY > 0) {
+                (taken != null ? standbyHits : standbyMisses).increment();
+            }
+            return taken;
+        }
+
+        private void close() {
+            try {
+                browser.close();
+            } catch (Exception e) {
+                logger.debug("Ignoring error while closing pooled browser", e);
+            }
+            try {
+                playwright.close();
+            } catch (Exception e) {
+                logger.debug("Ignoring error while closing pooled Playwright driver", e);
+            }
+        }
+    }
+
+    /**
+     * Borrow a browser for exclusive use by the calling thread.
+     * Launches a new browser while the pool is below its size, otherwise waits
+     * up to the default timeout for another thread to release one. While
+     * waiting, capacity freed by a discarded browser is picked up as well.
+     *
+     * @return Borrowed slot; must be handed back via {@link #release(Slot)}
+     * @throws IllegalStateException if the pool is shut down or no browser frees up in time
+     */
+    static Slot acquire() {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(ConfigManager.getTimeout());
+        while (true) {
+            if (shutDown) {
+                throw new IllegalStateException("Browser pool has been shut down");
+            }
+            Slot slot = idleSlots.poll();
+            if (slot != null) {
+                return slot;
+            }
+            if (reserveLaunch()) {
+                return launch();
+            }
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                throw new IllegalStateException("No pooled browser became available within "
+                        + ConfigManager.getTimeout() + " ms (pool size: " + SIZE + ")");
+            }
+            try {
+                // Wake up periodically: a discarded browser frees capacity without queueing a slot
+                slot = idleSlots.poll(Math.min(remaining, WAIT_SLICE_NANOS), TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for a pooled browser", e);
+            }
+            if (slot != null) {
+                return slot;
+            }
+        }
+    }
+
+    /**
+     * Return a borrowed browser to the pool. Disconnected browsers are
+     * discarded so the next borrower launches a healthy replacement; healthy
+     * ones are refilled with a standby context first when standby is enabled.
+     *
+     * @param slot Slot previously obtained from {@link #acquire()}
+     */
+    static void release(Slot slot) {
+        if (shutDown || !slot.browser.isConnected()) {
+            discard(slot);
+            return;
+        }
+        if (refillExecutor == null) {
+            idleSlots.offer(slot);
+            return;
+        }
+        refillExecutor.execute(() -> {
+            refill(slot);
+            idleSlots.offer(slot);
+        });
+    }
+
+    /** @return Maximum number of browsers the pool will launch */
+    static int size() {
+        return SIZE;
+    }
+
+    /** @return Point-in-time pool and standby metrics */
+    static BrowserPoolStats stats() {
+        long count = refills.sum();
+        return new BrowserPoolStats(SIZE, STANDBY, launchedCount.get(), idleSlots.size(),
+                standbyHits.sum(), standbyMisses.sum(), count,
+                count == 0 ? 0 : refillNanosTotal.get() / count / 1_000_000.0,
+                refillNanosMax.get() / 1_000_000.0);
+    }
+
+    // -------------------------------------------------------------------------
+    // Internal
+    // -------------------------------------------------------------------------
+
+    private static boolean reserveLaunch() {
+        int current;
+        do {
+            current = launchedCount.get();
+            if (current >= SIZE) {
+                return false;
+            }
+        } while (!launchedCount.compareAndSet(current, current + 1));
+        return true;
+    }
+
+    private static Slot launch() {
+        Playwright playwright = null;
+        try {
+            playwright = Playwright.create();
+            Slot slot = new Slot(playwright, BrowserContextManager.launchBrowser(playwright));
+            allSlots.add(slot);
+            logger.info("Pooled browser launched ({}/{})", launchedCount.get(), SIZE);
+            return slot;
+        } catch (Exception e) {
+            launchedCount.decrementAndGet();
+            if (playwright != null) {
+                playwright.close();
+            }
+            logger.error("Failed to launch pooled browser", e);
+            throw new RuntimeException("Browser initialization failed", e);
+        }
+    }
+
+    /** Launch one standby slot ahead of demand so the first scenarios hit. */
+    private static void prewarm() {
+        if (shutDown || !reserveLaunch()) {
+            return;
+        }
+        try {
+            Slot slot = launch();
+            refill(slot);
+            idleSlots.offer(slot);
+        } catch (RuntimeException e) {
+            logger.warn("Standby browser pre-warm failed; scenarios will launch on demand", e);
+        }
+    }
+
+    /**
+     * Give an idle slot a fresh context + page already navigated to the base URL.
+     * Runs on the refill executor while no scenario owns the slot.
+     */
+    private static void refill(Slot slot) {
+        if (shutDown || slot.standby != null) {
+            return;
+        }
+        long start = System.nanoTime();
+        BrowserContext context = null;
+        try {
+            NetworkBlocker blocker = BrowserContextManager.newBlocker();
+            context = BrowserContextManager.openContext(slot.browser, new Browser.NewContextOptions(), blocker);
+            // The refill thread is bound to no environment, so this is the default one's URL
+            String baseUrl = ConfigManager.getBaseURL();
+            Page page = context.newPage();
+            page.navigate(baseUrl);
+            slot.standby = new Standby(context, page, blocker, baseUrl);
+
+            long elapsed = System.nanoTime() - start;
+            refills.increment();
+            refillNanosTotal.addAndGet(elapsed);
+            refillNanosMax.accumulate(elapsed);
+            logger.debug("Standby context refilled in {} ms", elapsed / 1_000_000);
+        } catch (Exception e) {
+            logger.warn("Standby context refill failed; next borrower will create its own", e);
+            if (context != null) {
+                closeQuietly(context);
+            }
+        }
+    }
+
+    private static void closeQuietly(BrowserContext context) {
+        try {
+            context.close();
+        } catch (Exception e) {
+            logger.debug("Ignoring error while closing standby context", e);
+        }
+    }
+
+    private static void onReload(ConfigSnapshot previous, ConfigSnapshot current) {
+        if (!previous.baseUrl().equals(current.baseUrl())) {
+            logger.info("base.url changed to {}; standby contexts will be re-warmed", current.baseUrl());
+        }
+        if (previous.browser().poolSize() != current.browser().poolSize()
+                || previous.browser().poolStandby() != current.browser().poolStandby()) {
+            logger.warn("Browser pool size and standby are fixed at start-up; the change applies after a restart");
+        }
+    }
+
+    private static void discard(Slot slot) {
+        allSlots.remove(slot);
+        launchedCount.decrementAndGet();
+        slot.close();
+        logger.info("Pooled browser discarded ({} remaining)", launchedCount.get());
+    }
+
+    private static void shutdown() {
+        shutDown = true;
+        if (refillExecutor != null) {
+            refillExecutor.shutdownNow();
+            try {
+                refillExecutor.awaitTermination(ConfigManager.getTimeout(), TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        for (Slot slot : allSlots) {
+            slot.close();
+        }
+        logger.info("Browser pool drained ({} browsers closed); {}", allSlots.size(), stats());
+        allSlots.clear();
+        idleSlots.clear();
+    }
+
+    private static ExecutorService newRefillExecutor() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        return Executors.newFixedThreadPool(STANDBY, runnable -> {
+            Thread thread = new Thread(runnable, "browser-pool-refill-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Explicit browser.pool.size wins; otherwise the pool matches the Cucumber
+     * worker count, falling back to the number of available processors.
+     */
+    private static int resolveSize() {
+        int configured = ConfigManager.getBrowserPoolSize();
+        if (configured > 0) {
+            return configured;
+        }
+        String workers = System.getProperty(PARALLELISM_PROPERTY);
+        if (workers != null && !workers.isBlank()) {
+            try {
+                return Math.max(1, Integer.parseInt(workers.trim()));
+            } catch (NumberFormatException e) {
+                logger.warn("Ignoring non-numeric {}='{}'", PARALLELISM_PROPERTY, workers);
+            }
+        }
+        return Runtime.getRuntime().availableProcessors();
+    }
+}
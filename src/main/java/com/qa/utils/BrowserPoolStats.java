@@ -0,0 +1,34 @@
+package com.qa.utils;
+
+/**
+ * BrowserPoolStats — point-in-time snapshot of the shared browser pool,
+ * used to size the pool and its standby contexts.
+ *
+ * @param size              Maximum number of pooled browsers (workers + standby)
+ * @param standby           Configured number of standby slots
+ * @param launched          Browsers currently launched
+ * @param idle              Browsers idle in the pool right now
+ * @param standbyHits       Scenarios that received a pre-warmed context
+ * @param standbyMisses     Scenarios that had to create their own context
+ * @param refills           Completed standby refills
+ * @param avgRefillMillis   Mean refill latency in milliseconds
+ * @param maxRefillMillis   Worst refill latency in milliseconds
+ */
+public record BrowserPoolStats(int size, int standby, int launched, int idle,
+                               long standbyHits, long standbyMisses, long refills,
+                               double avgRefillMillis, double maxRefillMillis) {
+
+    /** @return Fraction of context requests served from standby (0 when none yet) */
+    public double hitRate() {
+        long total = standbyHits + standbyMisses;
+        return total == 0 ? 0 : (double) standbyHits / total;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+                "pool %d/%d launched, %d idle; standby hits %d, misses %d (%.0f%%); refills %d (avg %.1f ms, max %.1f ms)",
+                launched, size, idle, standbyHits, standbyMisses, hitRate() * 100,
+                refills, avgRefillMillis, maxRefillMillis);
+    }
+}
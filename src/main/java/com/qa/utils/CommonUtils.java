@@ -1,16 +1,13 @@
 package com.qa.utils;
 
-import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
 import java.util.Optional;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
-import com.microsoft.playwright.Page;
+import com.microsoft.playwright.PlaywrightException;
 
 /**
  * CommonUtils — General-purpose test utilities.
@@ -19,7 +16,7 @@ public final class CommonUtils {
 
     private static final Logger logger = LogManager.getLogger(CommonUtils.class);
     private static final String CHARS = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789";
-    private static final String SCREENSHOT_DIR = "target/screenshots/";
+    private static final AtomicLong EMAIL_SEQUENCE = new AtomicLong();
 
     private CommonUtils() {
         // Utility class — do not instantiate
@@ -30,23 +27,20 @@ public final class CommonUtils {
     // -------------------------------------------------------------------------
 
     /**
-     * Capture a screenshot of the current page.
+     * Capture a screenshot of the current page in memory, without touching disk.
+     * Hand the bytes to {@link ArtifactWriter} to store or attach them.
      *
-     * @param fileName Base filename (without extension)
-     * @return Optional containing the screenshot path, or empty on failure
+     * @return Optional containing the PNG bytes, or empty when no page is open or capture fails
      */
-    public static Optional<String> takeScreenshot(String fileName) {
+    public static Optional<byte[]> captureScreenshot() {
+        if (!BrowserContextManager.hasPage()) {
+            logger.warn("No page open; nothing to screenshot");
+            return Optional.empty();
+        }
         try {
-            Path dir = Paths.get(SCREENSHOT_DIR);
-            Files.createDirectories(dir);
-
-            Page page = BrowserContextManager.getPage();
-            String screenshotPath = SCREENSHOT_DIR + fileName + ".png";
-            page.screenshot(new Page.ScreenshotOptions().setPath(Paths.get(screenshotPath)));
-            logger.info("Screenshot captured: {}", screenshotPath);
-            return Optional.of(screenshotPath);
-        } catch (IOException | NullPointerException e) {
-            logger.error("Failed to capture screenshot '{}'", fileName, e);
+            return Optional.of(BrowserContextManager.getPage().screenshot());
+        } catch (PlaywrightException e) {
+            logger.error("Failed to capture screenshot", e);
             return Optional.empty();
         }
     }
@@ -71,12 +65,13 @@ public final class CommonUtils {
 
     /**
      * Generate a unique email address suitable for test data.
-     * Uses the current epoch millisecond to guarantee uniqueness within a run.
+     * Combines the current epoch millisecond with a process-wide sequence so
+     * parallel scenarios never collide within a run.
      *
      * @return A unique test email address
      */
     public static String generateRandomEmail() {
-        String email = "testuser" + System.currentTimeMillis() + "@test.com";
+        String email = "testuser" + System.currentTimeMillis() + "_" + EMAIL_SEQUENCE.incrementAndGet() + "@test.com";
         logger.info("Generated random email: {}", email);
         return email;
     }
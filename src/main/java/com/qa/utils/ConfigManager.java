@@ -1,5 +1,14 @@
 package com.qa.utils;
 
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -12,35 +21,187 @@ import com.typesafe.config.ConfigFactory;
  *
  * Supports multiple environments via the TEST_ENV environment variable.
  * Falls back to application.conf when an environment-specific file is absent.
- *
+ * A thread (worker or scenario) may bind another environment with
+ * {@link #bindEnvironment(String)}; every getter then resolves from that
+ * environment, so one JVM can run scenarios against several targets at once.
+ * With config.reload.enabled the files are watched ({@link ConfigWatcher})
+ * and edits take effect without a restart; see {@link #reload()}.
+ * Every known key is resolved once at load time into a {@link ConfigSnapshot},
+ * so the typed getters are plain field reads; the get*Property methods look
+ * up arbitrary keys in the Config tree.
  */
 public class ConfigManager {
 
     private static final Logger logger = LogManager.getLogger(ConfigManager.class);
-    private static Config config;
+
+    /** Receives the new settings after the configuration files changed on disk. */
+    @FunctionalInterface
+    public interface ReloadListener {
+
+        /**
+         * Called on the watcher thread once changed files of any loaded
+         * environment are in effect. The snapshots are those of the TEST_ENV
+         * environment and may be equal, e.g. when only keys read through
+         * {@link #getProperty} changed; compare the fields you depend on.
+         *
+         * @param previous Settings before the change
+         * @param current  Settings now returned by every getter
+         */
+        void onReload(ConfigSnapshot previous, ConfigSnapshot current);
+    }
+
+    /** One parsed configuration and its snapshot, swapped as a unit on reload */
+    private record Loaded(Config config, ConfigSnapshot snapshot) {}
+
+    /** The current configuration of one environment name */
+    private static final class Environment {
+
+        private final String name;
+        private volatile Loaded loaded;
+
+        private Environment(String name, Loaded loaded) {
+            this.name = name;
+            this.loaded = loaded;
+        }
+    }
+
+    private static final Map<String, Environment> environments = new ConcurrentHashMap<>();
+    private static final ThreadLocal<Environment> bound = new ThreadLocal<>();
+    private static final List<ReloadListener> listeners = new CopyOnWriteArrayList<>();
+    private static final Environment defaultEnvironment;
+    private static final Path reloadDir;
 
     static {
-        loadConfig();
+        String env = System.getenv("TEST_ENV");
+        if (env == null || env.isBlank()) {
+            env = "dev";
+        }
+        defaultEnvironment = new Environment(env, loadConfig(env, null));
+        environments.put(env, defaultEnvironment);
+        ConfigSnapshot.Reload reload = defaultEnvironment.loaded.snapshot().reload();
+        reloadDir = reload.enabled() ? resolveReloadDir(reload.dir()) : null;
+        if (reloadDir != null) {
+            ConfigWatcher.start(reloadDir, reload.debounceMillis(), ConfigManager::reload);
+        }
     }
 
     private ConfigManager() {
         // Utility class — do not instantiate
     }
 
+    // -------------------------------------------------------------------------
+    // Environment binding
+    // -------------------------------------------------------------------------
+
+    /**
+     * Resolve configuration for the current thread from another environment
+     * (application-&lt;env&gt;.conf over application.conf) until
+     * {@link #unbindEnvironment()}. Each environment is loaded once per JVM.
+     *
+     * @param env Environment name, e.g. "prod"
+     * @throws IllegalArgumentException if there is no application-&lt;env&gt;.conf
+     */
+    public static void bindEnvironment(String env) {
+        bound.set(environments.computeIfAbsent(env, name -> {
+            if (ConfigManager.class.getClassLoader().getResource("application-" + name + ".conf") == null) {
+                throw new IllegalArgumentException("Unknown environment '" + name
+                        + "': application-" + name + ".conf not found on the classpath");
+            }
+            return new Environment(name, loadConfig(name, reloadDir));
+        }));
+    }
+
+    /** Return the current thread to the TEST_ENV environment. */
+    public static void unbindEnvironment() {
+        bound.remove();
+    }
+
+    /** @return Name of the environment the current thread resolves configuration from */
+    public static String getEnvironment() {
+        return snapshot().env();
+    }
+
+    // -------------------------------------------------------------------------
+    // Hot reload
+    // -------------------------------------------------------------------------
+
+    /**
+     * Register a listener for configuration changes, e.g. to resize a pool or
+     * drop settings cached per environment. Environments bound per thread are
+     * reloaded too, but only the TEST_ENV snapshots are passed on: the default
+     * environment drives process-wide resources.
+     *
+     * @param listener Listener to notify after each effective change
+     */
+    public static void addReloadListener(ReloadListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Re-read every loaded environment from config.reload.dir and swap in the
+     * new snapshots. Getters switch over atomically per environment; objects
+     * built from the old settings (running scenarios, open clients) keep them.
+     * A file that no longer parses or validates leaves that environment as it was.
+     */
+    static void reload() {
+        ConfigSnapshot before = defaultEnvironment.loaded.snapshot();
+        boolean changed = false;
+        for (Environment environment : environments.values()) {
+            Loaded previous = environment.loaded;
+            Loaded current;
+            try {
+                current = loadConfig(environment.name, reloadDir);
+            } catch (RuntimeException e) {
+                logger.error("Configuration reload for environment '{}' failed; keeping the previous settings",
+                        environment.name, e);
+                continue;
+            }
+            // The whole tree, not just the snapshot: getProperty keys may have changed alone
+            if (current.config().equals(previous.config())) {
+                continue;
+            }
+            environment.loaded = current;
+            changed = true;
+            logger.info("Configuration reloaded for environment: {}", environment.name);
+        }
+        if (!changed) {
+            return;
+        }
+        ConfigSnapshot after = defaultEnvironment.loaded.snapshot();
+        for (ReloadListener listener : listeners) {
+            try {
+                listener.onReload(before, after);
+            } catch (RuntimeException e) {
+                logger.error("Configuration reload listener failed", e);
+            }
+        }
+    }
+
     // -------------------------------------------------------------------------
     // Config loading
     // -------------------------------------------------------------------------
 
-    private static void loadConfig() {
+    /**
+     * @param env Environment name
+     * @param dir Directory to read the files from, or null for the classpath
+     */
+    private static Loaded loadConfig(String env, Path dir) {
+        Config config;
         try {
-            String env = System.getenv("TEST_ENV");
-            if (env == null || env.isBlank()) {
-                env = "dev";
+            // Layer: environment-specific file → default application.conf; when watching a
+            // directory, the shipped application.conf stays underneath so every key has a value
+            if (dir == null) {
+                config = ConfigFactory.parseResources("application-" + env + ".conf")
+                        .withFallback(ConfigFactory.load("application.conf"))
+                        .resolve();
+            } else {
+                ConfigFactory.invalidateCaches();
+                config = ConfigFactory.parseFile(dir.resolve("application-" + env + ".conf").toFile())
+                        .withFallback(ConfigFactory.load(
+                                ConfigFactory.parseFile(dir.resolve("application.conf").toFile())
+                                        .withFallback(ConfigFactory.parseResources("application.conf"))))
+                        .resolve();
             }
-            // Layer: environment-specific file → default application.conf
-            config = ConfigFactory.parseResources("application-" + env + ".conf")
-                    .withFallback(ConfigFactory.load("application.conf"))
-                    .resolve();
             logger.info("Configuration loaded for environment: {}", env);
         } catch (ConfigException.IO e) {
             logger.warn("Environment-specific config not found; loading default application.conf", e);
@@ -49,71 +210,325 @@ public class ConfigManager {
             logger.error("Failed to parse configuration", e);
             throw new RuntimeException("Configuration loading failed", e);
         }
+        return new Loaded(config, ConfigSnapshot.from(config, env));
+    }
+
+    /** @return Directory to watch: config.reload.dir, else where application.conf was loaded from */
+    private static Path resolveReloadDir(String configured) {
+        if (!configured.isBlank()) {
+            return Paths.get(configured).toAbsolutePath();
+        }
+        URL resource = ConfigManager.class.getClassLoader().getResource("application.conf");
+        if (resource == null || !"file".equals(resource.getProtocol())) {
+            logger.warn("config.reload.enabled is set but application.conf is not a plain file ({}); "
+                    + "set config.reload.dir to watch a directory", resource);
+            return null;
+        }
+        try {
+            return Paths.get(resource.toURI()).getParent();
+        } catch (URISyntaxException e) {
+            logger.warn("Cannot watch {}; set config.reload.dir", resource, e);
+            return null;
+        }
+    }
+
+    private static Environment current() {
+        Environment environment = bound.get();
+        return environment != null ? environment : defaultEnvironment;
     }
 
     // -------------------------------------------------------------------------
     // Public accessors
     // -------------------------------------------------------------------------
 
+    /** @return All known settings of the current thread's environment, resolved at load time */
+    public static ConfigSnapshot snapshot() {
+        return current().loaded.snapshot();
+    }
+
     /** @return Base URL for the application under test */
     public static String getBaseURL() {
-        return getStringConfig("base.url", "https://www.saucedemo.com/");
+        return snapshot().baseUrl();
     }
 
     /** @return Browser type: chromium | firefox | webkit */
     public static String getBrowserType() {
-        return getStringConfig("browser.type", "chromium");
+        return snapshot().browser().type();
     }
 
     /**
-     * Headless mode: checks system property → environment variable → config file.
+     * Headless mode: system property → environment variable → config file,
+     * resolved when the configuration loads.
      *
      * @return true if headless, false for headed mode
      */
     public static boolean isHeadless() {
-        // System property takes highest precedence (e.g., -Dbrowser.headless=false)
-        for (String key : new String[]{"browser.headless", "HEADLESS"}) {
-            String val = System.getProperty(key);
-            if (val != null && !val.isBlank()) {
-                return Boolean.parseBoolean(val.trim());
-            }
-        }
-        // Then environment variable
-        String envVal = System.getenv("HEADLESS");
-        if (envVal != null && !envVal.isBlank()) {
-            return Boolean.parseBoolean(envVal.trim());
-        }
-        return getBooleanConfig("browser.headless", true);
+        return snapshot().browser().headless();
+    }
+
+    /** @return true if scenarios borrow browsers from the shared pool instead of launching their own */
+    public static boolean isBrowserPoolEnabled() {
+        return snapshot().browser().poolEnabled();
+    }
+
+    /** @return Maximum number of pooled browsers; 0 means one per parallel worker */
+    public static int getBrowserPoolSize() {
+        return snapshot().browser().poolSize();
+    }
+
+    /** @return Number of extra pooled browsers kept with a pre-warmed context; 0 disables standby */
+    public static int getBrowserPoolStandby() {
+        return snapshot().browser().poolStandby();
+    }
+
+    /** @return Browser network mode: live | record | replay */
+    public static String getNetworkMode() {
+        return snapshot().browser().networkMode();
+    }
+
+    /** @return Directory holding the per-feature HAR archives */
+    public static String getHarDirectory() {
+        return snapshot().browser().harDirectory();
+    }
+
+    /** @return What replay does with unrecorded requests: abort | fallback (to the live network) */
+    public static String getHarMissPolicy() {
+        return snapshot().browser().harMissPolicy();
+    }
+
+    /** @return true if authenticated storage state is cached per user between scenarios */
+    public static boolean isAuthCacheEnabled() {
+        return snapshot().auth().cacheEnabled();
+    }
+
+    /** @return Lifetime of a cached authenticated session in seconds */
+    public static int getAuthCacheTtlSeconds() {
+        return snapshot().auth().cacheTtlSeconds();
     }
 
     /** @return Default element/page timeout in milliseconds */
     public static int getTimeout() {
-        return getIntConfig("timeout.default", 30000);
+        return snapshot().defaultTimeoutMillis();
     }
 
     /** @return Wait timeout for explicit waits in milliseconds */
     public static int getWaitTimeout() {
-        return getIntConfig("timeout.wait", 10000);
+        return snapshot().waitTimeoutMillis();
     }
 
     /** @return Base URL for the API under test */
     public static String getAPIBaseURL() {
-        return getStringConfig("api.base.url", "https://jsonplaceholder.typicode.com");
+        return snapshot().api().baseUrl();
     }
 
     /** @return API request timeout in milliseconds */
     public static int getAPITimeout() {
-        return getIntConfig("api.timeout", 10000);
+        return snapshot().api().timeoutMillis();
+    }
+
+    /** @return Maximum pooled API connections across all hosts */
+    public static int getAPIMaxConnections() {
+        return snapshot().api().maxConnections();
+    }
+
+    /** @return Maximum pooled API connections to a single host */
+    public static int getAPIMaxConnectionsPerRoute() {
+        return snapshot().api().maxConnectionsPerRoute();
+    }
+
+    /** @return Upper bound on how long an idle API connection is kept alive, in seconds */
+    public static int getAPIKeepAliveSeconds() {
+        return snapshot().api().keepAliveSeconds();
+    }
+
+    /** @return true if APIClient sends requests over the HTTP/2 transport (api.http.version = 2) */
+    public static boolean isAPIHttp2Enabled() {
+        return snapshot().api().http2();
+    }
+
+    /** @return Maximum concurrent requests issued by AsyncAPIClient */
+    public static int getAPIMaxInFlight() {
+        return snapshot().api().maxInFlight();
+    }
+
+    /** @return Safety cap on pages fetched by one paginated stream */
+    public static int getAPIPaginationMaxPages() {
+        return snapshot().api().paginationMaxPages();
+    }
+
+    /** @return Response body characters shown in logs and assertion messages */
+    public static int getAPIResponsePreviewChars() {
+        return snapshot().api().responsePreviewChars();
+    }
+
+    /** @return Response bodies larger than this many bytes are kept in a temp file */
+    public static long getAPIResponseSpillThreshold() {
+        return snapshot().api().responseSpillThreshold();
+    }
+
+    /** @return true to serve the API from the embedded stub server instead of api.base.url */
+    public static boolean isAPIStubEnabled() {
+        return snapshot().stub().enabled();
+    }
+
+    /** @return Loopback port of the stub server */
+    public static int getAPIStubPort() {
+        return snapshot().stub().port();
+    }
+
+    /** @return Classpath route files served by the stub server */
+    public static List<String> getAPIStubRoutes() {
+        return snapshot().stub().routes();
+    }
+
+    /** @return Seed for the stub's latency and fault draws */
+    public static int getAPIStubSeed() {
+        return snapshot().stub().seed();
+    }
+
+    /** @return Default stub latency distribution, e.g. "lognormal(40, 0.5)" */
+    public static String getAPIStubLatency() {
+        return snapshot().stub().latency();
+    }
+
+    /** @return Default fraction of stub requests answered with a fault */
+    public static double getAPIStubErrorRate() {
+        return snapshot().stub().errorRate();
+    }
+
+    /** @return Status of injected stub faults */
+    public static int getAPIStubErrorStatus() {
+        return snapshot().stub().errorStatus();
+    }
+
+    /** @return Kind of injected stub faults: status | disconnect */
+    public static String getAPIStubErrorKind() {
+        return snapshot().stub().errorKind();
+    }
+
+    /** @return Stub body chunk size in bytes for slow streaming (0 sends bodies whole) */
+    public static int getAPIStubChunkBytes() {
+        return snapshot().stub().chunkBytes();
+    }
+
+    /** @return Pause between streamed stub body chunks in milliseconds */
+    public static int getAPIStubChunkDelayMillis() {
+        return snapshot().stub().chunkDelayMillis();
+    }
+
+    /** @return API cassette mode: off | record | replay */
+    public static String getAPICassetteMode() {
+        return snapshot().api().cassetteMode();
+    }
+
+    /** @return Directory holding the per-feature API cassettes */
+    public static String getAPICassetteDirectory() {
+        return snapshot().api().cassetteDirectory();
+    }
+
+    /** @return JSON request-body fields left out of cassette matching (per-run generated values) */
+    public static List<String> getAPICassetteIgnoredBodyFields() {
+        return snapshot().api().cassetteIgnoredBodyFields();
+    }
+
+    /** @return Attempts per idempotent API call, including the first (1 disables retries) */
+    public static int getAPIRetryMaxAttempts() {
+        return snapshot().api().retryMaxAttempts();
+    }
+
+    /** @return Upper bound of the first retry wait in milliseconds; doubles per attempt */
+    public static long getAPIRetryBaseDelayMillis() {
+        return snapshot().api().retryBaseDelayMillis();
+    }
+
+    /** @return Upper bound of any retry wait in milliseconds */
+    public static long getAPIRetryMaxDelayMillis() {
+        return snapshot().api().retryMaxDelayMillis();
+    }
+
+    /** @return Response statuses retried like I/O errors */
+    public static List<Integer> getAPIRetryStatuses() {
+        return snapshot().api().retryStatuses();
+    }
+
+    /** @return true if calls to a failing host should fail fast for a while */
+    public static boolean isAPICircuitBreakerEnabled() {
+        return snapshot().api().circuitBreakerEnabled();
+    }
+
+    /** @return Consecutive failures that open a host's circuit */
+    public static int getAPICircuitBreakerFailureThreshold() {
+        return snapshot().api().circuitBreakerFailureThreshold();
+    }
+
+    /** @return Seconds an open circuit fails fast before a trial call */
+    public static int getAPICircuitBreakerOpenSeconds() {
+        return snapshot().api().circuitBreakerOpenSeconds();
+    }
+
+    /** @return true if API calls are throttled by api.rate-limit.limits */
+    public static boolean isAPIRateLimitEnabled() {
+        return snapshot().api().rateLimitEnabled();
+    }
+
+    /** @return Client-side rate limits, one token bucket per entry (format in application.conf) */
+    public static List<String> getAPIRateLimits() {
+        return snapshot().api().rateLimits();
     }
 
     /** @return Log level string (DEBUG | INFO | WARN | ERROR) */
     public static String getLogLevel() {
-        return getStringConfig("log.level", "INFO");
+        return snapshot().logLevel();
     }
 
     /** @return true if Allure reporting is enabled */
     public static boolean isAllureEnabled() {
-        return getBooleanConfig("allure.enabled", true);
+        return snapshot().allureEnabled();
+    }
+
+    /** @return Load model: closed (fixed virtual users) | open (target iteration rate) */
+    public static String getLoadModel() {
+        return snapshot().load().model();
+    }
+
+    /** @return Cucumber tag expression selecting the scenarios replayed as load */
+    public static String getLoadTags() {
+        return snapshot().load().tags();
+    }
+
+    /** @return Virtual users in the closed model */
+    public static int getLoadUsers() {
+        return snapshot().load().users();
+    }
+
+    /** @return Scenario iterations started per second in the open model */
+    public static double getLoadRate() {
+        return snapshot().load().rate();
+    }
+
+    /** @return Cap on concurrently running iterations in the open model */
+    public static int getLoadMaxInFlight() {
+        return snapshot().load().maxInFlight();
+    }
+
+    /** @return Seconds over which users (closed) or rate (open) ramp up linearly */
+    public static int getLoadRampUpSeconds() {
+        return snapshot().load().rampUpSeconds();
+    }
+
+    /** @return Total load duration in seconds, ramp-up included */
+    public static int getLoadDurationSeconds() {
+        return snapshot().load().durationSeconds();
+    }
+
+    /** @return p99 latency threshold per endpoint in milliseconds (0 disables) */
+    public static double getLoadP99ThresholdMillis() {
+        return snapshot().load().p99ThresholdMillis();
+    }
+
+    /** @return Error-rate threshold per endpoint as a fraction (0 disables) */
+    public static double getLoadErrorRateThreshold() {
+        return snapshot().load().errorRateThreshold();
     }
 
     /**
@@ -157,16 +572,41 @@ public class ConfigManager {
         return getBooleanConfig(key, false);
     }
 
+    /**
+     * Get a custom string-list property.
+     *
+     * @param key Configuration key
+     * @return Value or an empty list
+     */
+    public static List<String> getStringListProperty(String key) {
+        return getStringListConfig(key, List.of());
+    }
+
+    /**
+     * Check whether a key (value or object) is present in the configuration.
+     *
+     * @param key Configuration key
+     * @return true if the key exists
+     */
+    public static boolean hasProperty(String key) {
+        try {
+            return current().loaded.config().hasPath(key);
+        } catch (ConfigException e) {
+            logger.warn("Invalid config key '{}'", key);
+            return false;
+        }
+    }
+
     // -------------------------------------------------------------------------
-    // Private helpers with safe defaults
+    // Private helpers with safe defaults (custom keys only; known keys live in the snapshot)
     // -------------------------------------------------------------------------
 
     private static String getStringConfig(String key, String defaultValue) {
-        try {
-            return config.getString(key);
-        } catch (ConfigException.Missing e) {
-            logger.debug("Config key '{}' not found; using default: '{}'", key, defaultValue);
+        if (!hasProperty(key)) {
             return defaultValue;
+        }
+        try {
+            return current().loaded.config().getString(key);
         } catch (ConfigException e) {
             logger.warn("Error reading config key '{}'; using default: '{}'", key, defaultValue);
             return defaultValue;
@@ -174,23 +614,35 @@ public class ConfigManager {
     }
 
     private static int getIntConfig(String key, int defaultValue) {
-        try {
-            return config.getInt(key);
-        } catch (ConfigException.Missing e) {
-            logger.debug("Config key '{}' not found; using default: {}", key, defaultValue);
+        if (!hasProperty(key)) {
             return defaultValue;
+        }
+        try {
+            return current().loaded.config().getInt(key);
         } catch (ConfigException e) {
             logger.warn("Error reading int config key '{}'; using default: {}", key, defaultValue);
             return defaultValue;
         }
     }
 
-    private static boolean getBooleanConfig(String key, boolean defaultValue) {
+    private static List<String> getStringListConfig(String key, List<String> defaultValue) {
+        if (!hasProperty(key)) {
+            return defaultValue;
+        }
         try {
-            return config.getBoolean(key);
-        } catch (ConfigException.Missing e) {
-            logger.debug("Config key '{}' not found; using default: {}", key, defaultValue);
+            return current().loaded.config().getStringList(key);
+        } catch (ConfigException e) {
+            logger.warn("Error reading list config key '{}'; using default: {}", key, defaultValue);
             return defaultValue;
+        }
+    }
+
+    private static boolean getBooleanConfig(String key, boolean defaultValue) {
+        if (!hasProperty(key)) {
+            return defaultValue;
+        }
+        try {
+            return current().loaded.config().getBoolean(key);
         } catch (ConfigException e) {
             // Gracefully handle config value stored as a string (e.g. "true" instead of true)
             String raw = getStringConfig(key, String.valueOf(defaultValue));
@@ -0,0 +1,268 @@
+package com.qa.utils;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigException;
+import com.typesafe.config.ConfigObject;
+import com.typesafe.config.ConfigValue;
+
+/**
+ * ConfigSnapshot — every framework setting, resolved and type-checked once.
+ *
+ * Built by {@link ConfigManager} when the configuration loads, so getters
+ * return plain fields instead of walking the Config tree. A key of the wrong
+ * type fails the load with all offending keys listed; a key under a known
+ * section that nothing reads (usually a typo) is logged as a warning.
+ * Arbitrary keys remain available through {@link ConfigManager#getProperty}.
+ * There are no defaults in code: the shipped application.conf is always the
+ * base layer, so it is the one place defaults live, and a key missing from
+ * it fails the load like a malformed one.
+ *
+ * @param env                  Active TEST_ENV
+ * @param baseUrl              Base URL of the application under test
+ * @param browser              Browser, pool and network settings
+ * @param auth                 Authenticated-state cache settings
+ * @param defaultTimeoutMillis Default element/page timeout
+ * @param waitTimeoutMillis    Explicit-wait timeout
+ * @param api                  API client settings
+ * @param stub                 Embedded API stub settings
+ * @param load                 Load-mode profile
+ * @param logLevel             DEBUG | INFO | WARN | ERROR
+ * @param allureEnabled        true if Allure reporting is enabled
+ * @param reload               Configuration file watching
+ */
+public record ConfigSnapshot(String env, String baseUrl, Browser browser, Auth auth,
+                             int defaultTimeoutMillis, int waitTimeoutMillis,
+                             Api api, Stub stub, Load load, String logLevel, boolean allureEnabled,
+                             Reload reload) {
+
+    private static final Logger logger = LogManager.getLogger(ConfigSnapshot.class);
+
+    /** Sections owned by the snapshot; keys under them that nothing reads are reported */
+    private static final List<String> SECTIONS = List.of("base", "browser", "auth", "timeout", "api", "load", "log",
+            "allure", "config");
+    /** Sections read key by key at runtime rather than through the snapshot */
+    private static final List<String> OPEN_SECTIONS = List.of("browser.network.block");
+
+    public record Browser(String type, boolean headless, boolean poolEnabled, int poolSize, int poolStandby,
+                          String networkMode, String harDirectory, String harMissPolicy) {
+    }
+
+    public record Auth(boolean cacheEnabled, int cacheTtlSeconds) {
+    }
+
+    public record Api(String baseUrl, int timeoutMillis, int maxConnections, int maxConnectionsPerRoute,
+                      int keepAliveSeconds, boolean http2, int maxInFlight, int paginationMaxPages,
+                      int responsePreviewChars, long responseSpillThreshold,
+                      String cassetteMode, String cassetteDirectory, List<String> cassetteIgnoredBodyFields,
+                      int retryMaxAttempts, long retryBaseDelayMillis, long retryMaxDelayMillis,
+                      List<Integer> retryStatuses, boolean circuitBreakerEnabled,
+                      int circuitBreakerFailureThreshold, int circuitBreakerOpenSeconds,
+                      boolean rateLimitEnabled, List<String> rateLimits) {
+    }
+
+    public record Stub(boolean enabled, int port, List<String> routes, int seed, String latency, double errorRate,
+                       int errorStatus, String errorKind, int chunkBytes, int chunkDelayMillis) {
+    }
+
+    public record Load(String model, String tags, int users, double rate, int maxInFlight, int rampUpSeconds,
+                       int durationSeconds, double p99ThresholdMillis, double errorRateThreshold) {
+    }
+
+    public record Reload(boolean enabled, String dir, int debounceMillis) {
+    }
+
+    /**
+     * Resolve every known key.
+     *
+     * @param config Resolved configuration tree
+     * @param env    Active TEST_ENV
+     * @return Snapshot of all settings
+     * @throws IllegalStateException if any key is missing or holds a value of the wrong type
+     */
+    static ConfigSnapshot from(Config config, String env) {
+        Reader in = new Reader(config);
+
+        Stub stub = new Stub(
+                in.bool("api.stub.enabled"),
+                in.integer("api.stub.port"),
+                in.strings("api.stub.routes"),
+                in.integer("api.stub.seed"),
+                in.string("api.stub.latency"),
+                in.decimal("api.stub.error-rate"),
+                in.integer("api.stub.error-status"),
+                in.string("api.stub.error-kind"),
+                in.integer("api.stub.chunk-bytes"),
+                in.integer("api.stub.chunk-delay-millis"));
+
+        String apiBaseUrl = in.string("api.base.url");
+        Api api = new Api(
+                stub.enabled() ? "http://localhost:" + stub.port() : apiBaseUrl,
+                in.integer("api.timeout"),
+                in.integer("api.http.max-total"),
+                in.integer("api.http.max-per-route"),
+                in.integer("api.http.keep-alive-seconds"),
+                in.string("api.http.version").trim().equals("2"),
+                in.integer("api.async.max-in-flight"),
+                in.integer("api.pagination.max-pages"),
+                in.integer("api.response.preview-chars"),
+                in.bytes("api.response.spill-threshold-bytes"),
+                in.string("api.cassette.mode"),
+                in.string("api.cassette.dir"),
+                in.strings("api.cassette.ignored-body-fields"),
+                in.integer("api.retry.max-attempts"),
+                in.integer("api.retry.base-delay-millis"),
+                in.integer("api.retry.max-delay-millis"),
+                in.integers("api.retry.retry-statuses"),
+                in.bool("api.circuit-breaker.enabled"),
+                in.integer("api.circuit-breaker.failure-threshold"),
+                in.integer("api.circuit-breaker.open-seconds"),
+                in.bool("api.rate-limit.enabled"),
+                in.strings("api.rate-limit.limits"));
+
+        ConfigSnapshot snapshot = new ConfigSnapshot(
+                env,
+                in.string("base.url"),
+                new Browser(
+                        in.string("browser.type"),
+                        headless(in.bool("browser.headless")),
+                        in.bool("browser.pool.enabled"),
+                        in.integer("browser.pool.size"),
+                        in.integer("browser.pool.standby"),
+                        in.string("browser.network.mode"),
+                        in.string("browser.network.har.dir"),
+                        in.string("browser.network.har.miss")),
+                new Auth(
+                        in.bool("auth.cache.enabled"),
+                        in.integer("auth.cache.ttl-seconds")),
+                in.integer("timeout.default"),
+                in.integer("timeout.wait"),
+                api,
+                stub,
+                new Load(
+                        in.string("load.model"),
+                        in.string("load.tags"),
+                        in.integer("load.users"),
+                        in.decimal("load.rate"),
+                        in.integer("load.max-in-flight"),
+                        in.integer("load.ramp-up-seconds"),
+                        in.integer("load.duration-seconds"),
+                        in.decimal("load.thresholds.p99-millis"),
+                        in.decimal("load.thresholds.error-rate")),
+                in.string("log.level"),
+                in.bool("allure.enabled"),
+                new Reload(
+                        in.bool("config.reload.enabled"),
+                        in.string("config.reload.dir"),
+                        in.integer("config.reload.debounce-millis")));
+
+        if (!in.errors.isEmpty()) {
+            throw new IllegalStateException("Invalid configuration for environment '" + env + "':\n  "
+                    + String.join("\n  ", in.errors));
+        }
+        in.reportUnread();
+        return snapshot;
+    }
+
+    /** Headless mode: system property → environment variable → config file. */
+    private static boolean headless(boolean configured) {
+        for (String key : List.of("browser.headless", "HEADLESS")) {
+            String val = System.getProperty(key);
+            if (val != null && !val.isBlank()) {
+                return Boolean.parseBoolean(val.trim());
+            }
+        }
+        String envVal = System.getenv("HEADLESS");
+        if (envVal != null && !envVal.isBlank()) {
+            return Boolean.parseBoolean(envVal.trim());
+        }
+        return configured;
+    }
+
+    /** Typed reads of required keys; remembers what was read and what was missing or malformed. */
+    private static final class Reader {
+
+        private final Config config;
+        private final Set<String> read = new HashSet<>();
+        private final List<String> errors = new ArrayList<>();
+
+        Reader(Config config) {
+            this.config = config;
+        }
+
+        String string(String key) {
+            return read(key, "", config::getString);
+        }
+
+        int integer(String key) {
+            return read(key, 0, config::getInt);
+        }
+
+        long bytes(String key) {
+            return read(key, 0L, config::getBytes);
+        }
+
+        double decimal(String key) {
+            return read(key, 0.0, config::getDouble);
+        }
+
+        boolean bool(String key) {
+            return read(key, false, config::getBoolean);
+        }
+
+        List<String> strings(String key) {
+            return List.copyOf(read(key, List.of(), config::getStringList));
+        }
+
+        List<Integer> integers(String key) {
+            return List.copyOf(read(key, List.of(), config::getIntList));
+        }
+
+        /** @param placeholder Returned for a missing or malformed key; the load fails before it is used */
+        private <T> T read(String key, T placeholder, Function<String, T> getter) {
+            read.add(key);
+            if (!config.hasPath(key)) {
+                errors.add(key + ": missing (application.conf ships every key; was it removed?)");
+                return placeholder;
+            }
+            try {
+                return getter.apply(key);
+            } catch (ConfigException e) {
+                errors.add(key + ": " + e.getMessage());
+                return placeholder;
+            }
+        }
+
+        void reportUnread() {
+            for (String section : SECTIONS) {
+                if (config.hasPath(section) && config.getValue(section) instanceof ConfigObject object) {
+                    reportUnread(section, object);
+                }
+            }
+        }
+
+        private void reportUnread(String path, ConfigObject object) {
+            if (OPEN_SECTIONS.contains(path)) {
+                return;
+            }
+            for (Map.Entry<String, ConfigValue> entry : object.entrySet()) {
+                String key = path + "." + entry.getKey();
+                if (entry.getValue() instanceof ConfigObject child) {
+                    reportUnread(key, child);
+                } else if (!read.contains(key)) {
+                    logger.warn("Unknown config key '{}' (set in {}) is ignored", key,
+                            entry.getValue().origin().description());
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.qa.utils;
+
+import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * ConfigWatcher — daemon thread that reports edits to application*.conf files.
+ *
+ * Editors often save a file in several writes (truncate, write, rename), so
+ * events are debounced: the callback runs once no further change has been
+ * seen for the debounce period.
+ */
+final class ConfigWatcher {
+
+    private static final Logger logger = LogManager.getLogger(ConfigWatcher.class);
+
+    private ConfigWatcher() {
+        // Utility class — do not instantiate
+    }
+
+    /**
+     * Start watching a directory.
+     *
+     * @param dir            Directory holding the configuration files
+     * @param debounceMillis Quiet period before the callback runs
+     * @param onChange       Called on the watcher thread after a burst of changes
+     */
+    static void start(Path dir, int debounceMillis, Runnable onChange) {
+        WatchService watchService;
+        try {
+            watchService = FileSystems.getDefault().newWatchService();
+            dir.register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+        } catch (IOException e) {
+            logger.warn("Cannot watch {} for configuration changes; hot reload is off", dir, e);
+            return;
+        }
+        Thread watcher = new Thread(() -> watch(watchService, debounceMillis, onChange), "config-watcher");
+        watcher.setDaemon(true);
+        watcher.start();
+        logger.info("Watching {} for configuration changes (debounce {} ms)", dir, debounceMillis);
+    }
+
+    private static void watch(WatchService watchService, int debounceMillis, Runnable onChange) {
+        try (watchService) {
+            while (true) {
+                if (!relevant(watchService.take())) {
+                    continue;
+                }
+                // Swallow the rest of the burst before reloading
+                WatchKey next;
+                while ((next = watchService.poll(debounceMillis, TimeUnit.MILLISECONDS)) != null) {
+                    relevant(next);
+                }
+                try {
+                    onChange.run();
+                } catch (RuntimeException e) {
+                    logger.error("Configuration reload failed", e);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException e) {
+            logger.debug("Ignoring error while closing the configuration watcher", e);
+        }
+    }
+
+    /** @return true if the key reported a change to a configuration file; the key is re-armed */
+    private static boolean relevant(WatchKey key) {
+        boolean relevant = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.context() instanceof Path file) {
+                String name = file.getFileName().toString();
+                relevant |= name.startsWith("application") && name.endsWith(".conf");
+            } else if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                relevant = true;
+            }
+        }
+        key.reset();
+        return relevant;
+    }
+}
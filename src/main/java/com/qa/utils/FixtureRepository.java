@@ -0,0 +1,215 @@
+package com.qa.utils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * FixtureRepository — every JSON fixture under the classpath data/ folder,
+ * read and parsed once.
+ *
+ * The folder is indexed on first use. Each fixture keeps its parsed tree
+ * (never handed out) and its serialized request bytes. Plain fixtures are
+ * served straight from the cached bytes; templated fixtures record where
+ * their placeholders sit at load time, so a request only deep-copies the
+ * tree and fills those fields — nothing is re-read or re-parsed.
+ *
+ * Supported placeholders (anywhere inside a string value):
+ * <ul>
+ *   <li>{{uniqueEmail}}  — {@link CommonUtils#generateRandomEmail()}</li>
+ *   <li>{{uniqueString}} — 8 random alphanumeric characters</li>
+ *   <li>{{timestamp}}    — current epoch milliseconds</li>
+ * </ul>
+ */
+public final class FixtureRepository {
+
+    private static final Logger logger = LogManager.getLogger(FixtureRepository.class);
+    private static final ObjectMapper MAPPER = SharedObjectMapper.get();
+    private static final String ROOT = "data";
+    private static final Pattern PLACEHOLDER = Pattern.compile("\\{\\{(\\w+)}}");
+    private static final Map<String, Supplier<String>> GENERATORS = Map.of(
+            "uniqueEmail", CommonUtils::generateRandomEmail,
+            "uniqueString", () -> CommonUtils.generateRandomString(8),
+            "timestamp", () -> String.valueOf(System.currentTimeMillis()));
+
+    private static final LongAdder hits = new LongAdder();
+    private static final LongAdder misses = new LongAdder();
+    private static final long loadMillis;
+    private static final Map<String, Fixture> fixtures;
+
+    static {
+        long start = System.nanoTime();
+        fixtures = index();
+        loadMillis = (System.nanoTime() - start) / 1_000_000;
+        logger.info("Indexed {} fixtures from classpath {}/ in {} ms", fixtures.size(), ROOT, loadMillis);
+    }
+
+    private FixtureRepository() {
+        // Utility class — do not instantiate
+    }
+
+    /**
+     * A parsed fixture and the JSON pointers of its templated string fields.
+     */
+    private record Fixture(String name, JsonNode tree, byte[] bytes, List<JsonPointer> templated) {}
+
+    /**
+     * Request body for a fixture, with placeholders filled in.
+     *
+     * @param name Fixture name without the .json extension (e.g. "api-users")
+     * @return Serialized JSON; a fresh array the caller may keep
+     * @throws IllegalArgumentException if no such fixture exists
+     */
+    public static byte[] bytes(String name) {
+        Fixture fixture = lookup(name);
+        if (fixture.templated().isEmpty()) {
+            return fixture.bytes().clone();
+        }
+        try {
+            return MAPPER.writeValueAsBytes(render(fixture));
+        } catch (IOException e) {
+            throw new RuntimeException("Cannot serialize fixture: " + name, e);
+        }
+    }
+
+    /**
+     * Fixture as a mutable map, with placeholders filled in — for callers
+     * that adjust fields before sending.
+     *
+     * @param name Fixture name without the .json extension
+     * @return Independent copy of the fixture's top-level object
+     * @throws IllegalArgumentException if no such fixture exists
+     */
+    public static Map<String, Object> asMap(String name) {
+        return MAPPER.convertValue(render(lookup(name)), new TypeReference<Map<String, Object>>() {});
+    }
+
+    /** @return Names of all indexed fixtures */
+    public static List<String> names() {
+        return fixtures.keySet().stream().sorted().toList();
+    }
+
+    /** @return Fixture count, load time and lookup hit rate */
+    public static FixtureStats stats() {
+        return new FixtureStats(fixtures.size(), loadMillis, hits.sum(), misses.sum());
+    }
+
+    // -------------------------------------------------------------------------
+    // Internal
+    // -------------------------------------------------------------------------
+
+    private static Fixture lookup(String name) {
+        Fixture fixture = fixtures.get(name);
+        if (fixture == null) {
+            misses.increment();
+            throw new IllegalArgumentException("Fixture not found on classpath: /" + ROOT + "/" + name
+                    + ".json (known: " + names() + ")");
+        }
+        hits.increment();
+        return fixture;
+    }
+
+    private static JsonNode render(Fixture fixture) {
+        JsonNode copy = fixture.tree().deepCopy();
+        for (JsonPointer pointer : fixture.templated()) {
+            String value = fill(copy.at(pointer).textValue());
+            JsonNode parent = copy.at(pointer.head());
+            if (parent instanceof ObjectNode object) {
+                object.put(pointer.last().getMatchingProperty(), value);
+            } else if (parent instanceof ArrayNode array) {
+                array.set(pointer.last().getMatchingIndex(), value);
+            }
+        }
+        return copy;
+    }
+
+    private static String fill(String template) {
+        Matcher matcher = PLACEHOLDER.matcher(template);
+        StringBuilder filled = new StringBuilder();
+        while (matcher.find()) {
+            Supplier<String> generator = GENERATORS.get(matcher.group(1));
+            String replacement = generator != null ? generator.get() : matcher.group();
+            matcher.appendReplacement(filled, Matcher.quoteReplacement(replacement));
+        }
+        matcher.appendTail(filled);
+        return filled.toString();
+    }
+
+    private static Map<String, Fixture> index() {
+        URL url = FixtureRepository.class.getClassLoader().getResource(ROOT);
+        if (url == null) {
+            logger.warn("No {}/ folder on the classpath; fixture lookups will fail", ROOT);
+            return Map.of();
+        }
+        try {
+            URI uri = url.toURI();
+            if ("jar".equals(uri.getScheme())) {
+                try (FileSystem jar = FileSystems.newFileSystem(uri, Collections.emptyMap())) {
+                    return load(jar.getPath(ROOT));
+                }
+            }
+            return load(Paths.get(uri));
+        } catch (IOException | URISyntaxException e) {
+            throw new RuntimeException("Cannot index fixtures under classpath " + ROOT + "/", e);
+        }
+    }
+
+    private static Map<String, Fixture> load(Path root) throws IOException {
+        Map<String, Fixture> loaded = new HashMap<>();
+        try (Stream<Path> files = Files.walk(root)) {
+            for (Path file : files.filter(path -> path.toString().endsWith(".json")).toList()) {
+                String relative = root.relativize(file).toString().replace('\\', '/');
+                String name = relative.substring(0, relative.length() - ".json".length());
+                try (InputStream in = Files.newInputStream(file)) {
+                    JsonNode tree = MAPPER.readTree(in);
+                    List<JsonPointer> templated = new ArrayList<>();
+                    if (tree.isContainerNode()) {
+                        findTemplates(tree, JsonPointer.empty(), templated);
+                    }
+                    loaded.put(name, new Fixture(name, tree, MAPPER.writeValueAsBytes(tree), List.copyOf(templated)));
+                }
+            }
+        }
+        return Map.copyOf(loaded);
+    }
+
+    private static void findTemplates(JsonNode node, JsonPointer at, List<JsonPointer> templated) {
+        if (node.isTextual() && PLACEHOLDER.matcher(node.textValue()).find()) {
+            templated.add(at);
+        } else if (node.isObject()) {
+            node.fields().forEachRemaining(field ->
+                    findTemplates(field.getValue(), at.appendProperty(field.getKey()), templated));
+        } else if (node.isArray()) {
+            for (int i = 0; i < node.size(); i++) {
+                findTemplates(node.get(i), at.appendIndex(i), templated);
+            }
+        }
+    }
+}
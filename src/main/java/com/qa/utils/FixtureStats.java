@@ -0,0 +1,24 @@
+package com.qa.utils;
+
+/**
+ * FixtureStats — point-in-time snapshot of the fixture repository.
+ *
+ * @param fixtures   Fixtures indexed at start-up
+ * @param loadMillis Time spent reading and parsing them, in milliseconds
+ * @param hits       Lookups served from the index
+ * @param misses     Lookups for fixtures that do not exist
+ */
+public record FixtureStats(int fixtures, long loadMillis, long hits, long misses) {
+
+    /** @return Fraction of lookups that found their fixture (0 when none yet) */
+    public double hitRate() {
+        long total = hits + misses;
+        return total == 0 ? 0 : (double) hits / total;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d fixtures loaded in %d ms; lookups %d hit, %d missed (%.0f%%)",
+                fixtures, loadMillis, hits, misses, hitRate() * 100);
+    }
+}
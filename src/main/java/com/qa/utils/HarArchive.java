@@ -0,0 +1,187 @@
+package com.qa.utils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.microsoft.playwright.Browser;
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.options.HarContentPolicy;
+import com.microsoft.playwright.options.HarMode;
+import com.microsoft.playwright.options.HarNotFound;
+
+/**
+ * HarArchive — per-feature HAR files for offline, deterministic UI runs.
+ *
+ * browser.network.mode selects the behaviour:
+ * <ul>
+ *   <li>live   — real network (default)</li>
+ *   <li>record — each context records a HAR that is merged into
+ *                &lt;har.dir&gt;/&lt;feature path&gt;.har (the feature's path under
+ *                the features root) when the context closes</li>
+ *   <li>replay — each context is served from its feature's HAR via
+ *                routeFromHAR; har.miss decides whether unrecorded requests
+ *                are aborted or fall through to the network</li>
+ * </ul>
+ */
+final class HarArchive {
+
+    private static final Logger logger = LogManager.getLogger(HarArchive.class);
+    private static final ObjectMapper MAPPER = SharedObjectMapper.get();
+    private static final Path RECORDING_DIR = Paths.get("target/har-recordings");
+    private static final Map<Path, Object> mergeLocks = new ConcurrentHashMap<>();
+
+    enum Mode { LIVE, RECORD, REPLAY }
+
+    private static final Mode MODE = resolveMode();
+
+    /**
+     * A context's in-progress recording and the feature archive it feeds.
+     */
+    record Recording(Path scratchFile, Path archive) {}
+
+    private HarArchive() {
+        // Utility class — do not instantiate
+    }
+
+    /** @return Configured network mode */
+    static Mode mode() {
+        return MODE;
+    }
+
+    /**
+     * Configure a context to record its traffic into a scratch HAR.
+     *
+     * @param options Options of the context about to be opened
+     * @return Recording to hand to {@link #finishRecording(Recording)} after the context closes
+     */
+    static Recording startRecording(Browser.NewContextOptions options) {
+        Path archive = featureArchive();
+        Path scratch = RECORDING_DIR.resolve(sanitize(currentScenario().id()) + ".har");
+        try {
+            Files.createDirectories(RECORDING_DIR);
+        } catch (IOException e) {
+            throw new RuntimeException("Cannot create HAR recording directory: " + RECORDING_DIR, e);
+        }
+        options.setRecordHarPath(scratch)
+                .setRecordHarContent(HarContentPolicy.EMBED)
+                .setRecordHarMode(HarMode.MINIMAL);
+        return new Recording(scratch, archive);
+    }
+
+    /**
+     * Merge a closed context's scratch HAR into its feature archive. Newer
+     * entries replace older ones for the same method + URL.
+     *
+     * @param recording Recording returned by {@link #startRecording(Browser.NewContextOptions)}
+     */
+    static void finishRecording(Recording recording) {
+        Path scratch = recording.scratchFile();
+        Path archive = recording.archive();
+        if (!Files.exists(scratch)) {
+            logger.warn("No HAR was written for {}", archive.getFileName());
+            return;
+        }
+        synchronized (mergeLocks.computeIfAbsent(archive, key -> new Object())) {
+            try {
+                Files.createDirectories(archive.getParent());
+                if (!Files.exists(archive)) {
+                    Files.move(scratch, archive, StandardCopyOption.REPLACE_EXISTING);
+                } else {
+                    merge(scratch, archive);
+                    Files.delete(scratch);
+                }
+                logger.info("HAR recorded into {}", archive);
+            } catch (IOException e) {
+                logger.error("Failed to merge HAR recording into {}", archive, e);
+            }
+        }
+    }
+
+    /**
+     * Serve a context's traffic from its feature archive.
+     *
+     * @param context Freshly opened context
+     * @throws IllegalStateException if nothing was recorded for the feature
+     */
+    static void replay(BrowserContext context) {
+        Path archive = featureArchive();
+        if (!Files.exists(archive)) {
+            throw new IllegalStateException("No HAR recorded for this feature: " + archive
+                    + " (run once with browser.network.mode = record)");
+        }
+        HarNotFound notFound = "fallback".equalsIgnoreCase(ConfigManager.getHarMissPolicy())
+                ? HarNotFound.FALLBACK
+                : HarNotFound.ABORT;
+        context.routeFromHAR(archive, new BrowserContext.RouteFromHAROptions().setNotFound(notFound));
+        logger.info("Replaying network from {} (miss: {})", archive, notFound);
+    }
+
+    // -------------------------------------------------------------------------
+    // Internal
+    // -------------------------------------------------------------------------
+
+    private static void merge(Path scratch, Path archive) throws IOException {
+        JsonNode existing = MAPPER.readTree(archive.toFile());
+        JsonNode recorded = MAPPER.readTree(scratch.toFile());
+
+        Map<String, JsonNode> entries = new LinkedHashMap<>();
+        for (JsonNode entry : existing.path("log").path("entries")) {
+            entries.put(entryKey(entry), entry);
+        }
+        for (JsonNode entry : recorded.path("log").path("entries")) {
+            entries.put(entryKey(entry), entry);
+        }
+
+        ArrayNode merged = MAPPER.createArrayNode().addAll(entries.values());
+        ((ObjectNode) existing.path("log")).set("entries", merged);
+        MAPPER.writeValue(archive.toFile(), existing);
+    }
+
+    private static String entryKey(JsonNode entry) {
+        JsonNode request = entry.path("request");
+        return request.path("method").asText() + " " + request.path("url").asText();
+    }
+
+    /** Archives mirror the features tree, so same-named features in different folders stay apart. */
+    private static Path featureArchive() {
+        String name = Arrays.stream(currentScenario().featurePath().split("/"))
+                .map(HarArchive::sanitize)
+                .collect(Collectors.joining("/"));
+        return Paths.get(ConfigManager.getHarDirectory()).resolve(name + ".har");
+    }
+
+    private static ScenarioContext currentScenario() {
+        return ScenarioContext.current().orElseThrow(() -> new IllegalStateException(
+                "HAR " + MODE.name().toLowerCase(Locale.ROOT) + " mode needs a bound scenario"));
+    }
+
+    private static String sanitize(String name) {
+        return name.replaceAll("[^A-Za-z0-9._-]", "_");
+    }
+
+    private static Mode resolveMode() {
+        String configured = ConfigManager.getNetworkMode();
+        try {
+            return Mode.valueOf(configured.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            logger.warn("Unknown browser.network.mode '{}'; using live", configured);
+            return Mode.LIVE;
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.qa.utils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+import com.microsoft.playwright.Request;
+
+/**
+ * NetworkBlockPolicy — which browser requests a scenario never sends.
+ *
+ * Built from browser.network.block in application.conf. A scenario tag can
+ * override any field under browser.network.block.tag-overrides.&lt;tag&gt;
+ * (tag name without the '@'); the first overriding tag in source order wins,
+ * so a scenario's own tags lose to its feature's. Policies are
+ * compiled once per environment and tag, and again after a configuration reload.
+ *
+ * @param enabled       false lets every request through
+ * @param stub          true fulfils blocked requests with an empty 200, false aborts them
+ * @param resourceTypes Playwright resource types to block (image, font, media, ...)
+ * @param urlPatterns   Regular expressions; a request whose URL matches any is blocked
+ */
+public record NetworkBlockPolicy(boolean enabled, boolean stub,
+                                 Set<String> resourceTypes, List<Pattern> urlPatterns) {
+
+    private static final String ROOT = "browser.network.block";
+    private static final String OVERRIDES = ROOT + ".tag-overrides.";
+    /** Keyed by "&lt;environment&gt;/&lt;tag name&gt;"; the default policy has an empty tag name */
+    private static final Map<String, NetworkBlockPolicy> cache = new ConcurrentHashMap<>();
+
+    static {
+        ConfigManager.addReloadListener((previous, current) -> cache.clear());
+    }
+
+    public NetworkBlockPolicy {
+        resourceTypes = Set.copyOf(resourceTypes);
+        urlPatterns = List.copyOf(urlPatterns);
+    }
+
+    /**
+     * @return true if blocking is on by default or some tag can turn it on;
+     *         contexts skip request routing entirely otherwise
+     */
+    public static boolean isConfigured() {
+        return ConfigManager.getBooleanProperty(ROOT + ".enabled")
+                || ConfigManager.hasProperty(ROOT + ".tag-overrides");
+    }
+
+    /**
+     * Resolve the policy for a scenario from its tags.
+     *
+     * @param tags Scenario tags including the leading '@', in source order
+     * @return Policy of the first tag with an override, or the default policy
+     */
+    public static NetworkBlockPolicy forTags(List<String> tags) {
+        for (String tag : tags) {
+            String name = tag.startsWith("@") ? tag.substring(1) : tag;
+            if (ConfigManager.hasProperty(OVERRIDES + name)) {
+                return cached(name);
+            }
+        }
+        return defaultPolicy();
+    }
+
+    /** @return Policy applied when no scenario tag overrides it */
+    public static NetworkBlockPolicy defaultPolicy() {
+        return cached("");
+    }
+
+    /** Policies read the thread's bound environment, so they are cached per environment. */
+    private static NetworkBlockPolicy cached(String tagName) {
+        return cache.computeIfAbsent(ConfigManager.getEnvironment() + "/" + tagName, key -> load(tagName));
+    }
+
+    /**
+     * @param request Request about to leave the browser
+     * @return true if the request must be blocked; the main document never is
+     */
+    public boolean blocks(Request request) {
+        if (!enabled || "document".equals(request.resourceType())) {
+            return false;
+        }
+        if (resourceTypes.contains(request.resourceType())) {
+            return true;
+        }
+        String url = request.url();
+        for (Pattern pattern : urlPatterns) {
+            if (pattern.matcher(url).find()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static NetworkBlockPolicy load(String tagName) {
+        return new NetworkBlockPolicy(
+                ConfigManager.getBooleanProperty(keyFor(tagName, "enabled")),
+                "stub".equalsIgnoreCase(ConfigManager.getProperty(keyFor(tagName, "action"), "abort")),
+                Set.copyOf(ConfigManager.getStringListProperty(keyFor(tagName, "resource-types"))),
+                ConfigManager.getStringListProperty(keyFor(tagName, "url-patterns")).stream()
+                        .map(Pattern::compile)
+                        .toList());
+    }
+
+    /** Tag override key when present, otherwise the default key. */
+    private static String keyFor(String tagName, String field) {
+        if (!tagName.isEmpty() && ConfigManager.hasProperty(OVERRIDES + tagName + "." + field)) {
+            return OVERRIDES + tagName + "." + field;
+        }
+        return ROOT + "." + field;
+    }
+}
@@ -0,0 +1,78 @@
+package com.qa.utils;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.Route;
+
+/**
+ * NetworkBlocker — route handler that applies a {@link NetworkBlockPolicy}
+ * to one browser context and counts what it blocked.
+ *
+ * The handler is installed when the context is opened (possibly ahead of
+ * time for a standby context) and re-bound to the owning scenario's policy
+ * when the scenario takes the context.
+ */
+final class NetworkBlocker implements Consumer<Route> {
+
+    private static final Route.FulfillOptions EMPTY_RESPONSE = new Route.FulfillOptions()
+            .setStatus(200)
+            .setBody("");
+
+    private final Map<String, LongAdder> blockedByType = new ConcurrentHashMap<>();
+    private volatile NetworkBlockPolicy policy;
+
+    NetworkBlocker(NetworkBlockPolicy policy) {
+        this.policy = policy;
+    }
+
+    /**
+     * Route every request of the context through this blocker.
+     *
+     * @param context Freshly opened context
+     */
+    void install(BrowserContext context) {
+        context.route("**/*", this);
+    }
+
+    /**
+     * Switch to a scenario's policy and reset the counters.
+     *
+     * @param scenarioPolicy Policy resolved from the scenario's tags
+     */
+    void bind(NetworkBlockPolicy scenarioPolicy) {
+        this.policy = scenarioPolicy;
+        blockedByType.clear();
+    }
+
+    @Override
+    public void accept(Route route) {
+        NetworkBlockPolicy current = policy;
+        if (!current.blocks(route.request())) {
+            route.fallback();
+            return;
+        }
+        blockedByType.computeIfAbsent(route.request().resourceType(), type -> new LongAdder()).increment();
+        if (current.stub()) {
+            route.fulfill(EMPTY_RESPONSE);
+        } else {
+            route.abort("blockedbyclient");
+        }
+    }
+
+    /** @return Total number of requests blocked since the last bind */
+    long blockedCount() {
+        return blockedByType.values().stream().mapToLong(LongAdder::sum).sum();
+    }
+
+    /** @return Human-readable per-resource-type breakdown, e.g. "12 blocked (font=2, image=10)" */
+    String summary() {
+        Map<String, Long> sorted = new TreeMap<>();
+        blockedByType.forEach((type, count) -> sorted.put(type, count.sum()));
+        return blockedCount() + " blocked " + sorted.toString().replace('{', '(').replace('}', ')');
+    }
+}
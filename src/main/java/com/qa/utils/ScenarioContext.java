@@ -0,0 +1,88 @@
+package com.qa.utils;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.apache.logging.log4j.ThreadContext;
+
+/**
+ * ScenarioContext — identity and tags of the scenario running on the current thread.
+ *
+ * Bound by Hooks before each scenario and unbound in teardown, so framework
+ * components can make per-scenario decisions without depending on Cucumber.
+ * Binding also puts the scenario ID into the Log4j thread context, which
+ * routes the thread's log lines to the scenario ({@link ScenarioLogAppender}).
+ *
+ * @param id         Cucumber scenario ID (unique per run)
+ * @param name       Scenario name as written in the feature file
+ * @param featureUri URI of the feature file declaring the scenario
+ * @param tags       Source tag names, including the leading '@', in source order
+ *                   (feature tags before scenario tags)
+ */
+public record ScenarioContext(String id, String name, String featureUri, List<String> tags) {
+
+    private static final String CLASSPATH_FEATURES = "classpath:features/";
+    private static final ThreadLocal<ScenarioContext> current = new ThreadLocal<>();
+
+    public ScenarioContext {
+        tags = List.copyOf(tags);
+    }
+
+    /**
+     * Bind a scenario to the current thread.
+     *
+     * @param context Scenario about to run
+     */
+    public static void bind(ScenarioContext context) {
+        current.set(context);
+        ThreadContext.put(ScenarioLogAppender.SCENARIO_ID, context.id());
+    }
+
+    /** Remove the current thread's scenario binding. */
+    public static void unbind() {
+        current.remove();
+        ThreadContext.remove(ScenarioLogAppender.SCENARIO_ID);
+    }
+
+    /** @return The scenario bound to the current thread, if any */
+    public static Optional<ScenarioContext> current() {
+        return Optional.ofNullable(current.get());
+    }
+
+    /**
+     * @param tag Tag name including the leading '@'
+     * @return true if the scenario carries the tag
+     */
+    public boolean hasTag(String tag) {
+        return tags.contains(tag);
+    }
+
+    /**
+     * @return Feature file path relative to the features root, without the
+     *         ".feature" extension, e.g. "checkout/payment"; just the file name
+     *         when the feature lies outside a features directory
+     */
+    public String featurePath() {
+        String path = featureUri.replaceFirst("\\.feature$", "");
+        if (path.startsWith(CLASSPATH_FEATURES)) {
+            return path.substring(CLASSPATH_FEATURES.length());
+        }
+        int root = path.lastIndexOf("/features/");
+        return root >= 0
+                ? path.substring(root + "/features/".length())
+                : path.substring(path.lastIndexOf('/') + 1);
+    }
+
+    /** @return Environment named by an {@code @env:<name>} tag, if the scenario carries one */
+    public Optional<String> environment() {
+        return tags.stream()
+                .filter(tag -> tag.startsWith(TestConstants.Tags.ENV_PREFIX))
+                .map(tag -> tag.substring(TestConstants.Tags.ENV_PREFIX.length()))
+                .findFirst();
+    }
+
+    /** @return true unless the scenario is tagged as API-only */
+    public boolean requiresBrowser() {
+        return !hasTag(TestConstants.Tags.API);
+    }
+}
@@ -0,0 +1,117 @@
+package com.qa.utils;
+
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.logging.log4j.core.Appender;
+import org.apache.logging.log4j.core.Core;
+import org.apache.logging.log4j.core.Filter;
+import org.apache.logging.log4j.core.Layout;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.appender.AbstractAppender;
+import org.apache.logging.log4j.core.config.Property;
+import org.apache.logging.log4j.core.config.plugins.Plugin;
+import org.apache.logging.log4j.core.config.plugins.PluginAttribute;
+import org.apache.logging.log4j.core.config.plugins.PluginElement;
+import org.apache.logging.log4j.core.config.plugins.PluginFactory;
+import org.apache.logging.log4j.core.layout.PatternLayout;
+
+/**
+ * ScenarioLogAppender — collects each scenario's log lines in memory.
+ *
+ * Events are routed by the {@value #SCENARIO_ID} thread-context key, which
+ * {@link ScenarioContext#bind} sets on scenario and worker threads alike.
+ * Lines are only kept for scenarios opened with {@link #open(String)}, into
+ * one buffer per scenario, so parallel scenarios never interleave. Each
+ * buffer is capped at maxChars; {@link #take(String)} hands the text over
+ * (for the Allure report) and forgets it. Appending is an in-memory copy,
+ * so this appender stays synchronous while file and console output go
+ * through an async appender.
+ */
+@Plugin(name = "ScenarioLog", category = Core.CATEGORY_NAME, elementType = Appender.ELEMENT_TYPE)
+public final class ScenarioLogAppender extends AbstractAppender {
+
+    /** Thread-context key carrying the Cucumber scenario ID */
+    public static final String SCENARIO_ID = "scenarioId";
+
+    private static final Map<String, Buffer> buffers = new ConcurrentHashMap<>();
+
+    private final int maxChars;
+
+    private static final class Buffer {
+
+        private final StringBuilder text = new StringBuilder();
+        private boolean truncated;
+    }
+
+    private ScenarioLogAppender(String name, Filter filter, Layout<? extends Serializable> layout, int maxChars) {
+        super(name, filter, layout, true, Property.EMPTY_ARRAY);
+        this.maxChars = maxChars;
+    }
+
+    @PluginFactory
+    public static ScenarioLogAppender createAppender(@PluginAttribute("name") String name,
+                                                     @PluginAttribute(value = "maxChars", defaultInt = 1_048_576) int maxChars,
+                                                     @PluginElement("Layout") Layout<? extends Serializable> layout,
+                                                     @PluginElement("Filter") Filter filter) {
+        return new ScenarioLogAppender(name != null ? name : "ScenarioLog", filter,
+                layout != null ? layout : PatternLayout.createDefaultLayout(), maxChars);
+    }
+
+    /**
+     * Start collecting lines for a scenario.
+     *
+     * @param scenarioId Cucumber scenario ID
+     */
+    public static void open(String scenarioId) {
+        buffers.put(scenarioId, new Buffer());
+    }
+
+    /**
+     * Stop collecting lines for a scenario.
+     *
+     * @param scenarioId Cucumber scenario ID
+     * @return Everything logged for the scenario, or empty if nothing was
+     */
+    public static Optional<String> take(String scenarioId) {
+        Buffer buffer = buffers.remove(scenarioId);
+        if (buffer == null) {
+            return Optional.empty();
+        }
+        synchronized (buffer) {
+            if (buffer.text.isEmpty()) {
+                return Optional.empty();
+            }
+            if (buffer.truncated) {
+                buffer.text.append("... log truncated at ").append(buffer.text.length()).append(" chars\n");
+            }
+            return Optional.of(buffer.text.toString());
+        }
+    }
+
+    @Override
+    public void append(LogEvent event) {
+        String scenarioId = event.getContextData().getValue(SCENARIO_ID);
+        if (scenarioId == null) {
+            return;
+        }
+        Buffer buffer = buffers.get(scenarioId);
+        if (buffer == null) {
+            return;
+        }
+        String line = new String(getLayout().toByteArray(event), StandardCharsets.UTF_8);
+        synchronized (buffer) {
+            if (buffer.truncated) {
+                return;
+            }
+            if (buffer.text.length() + line.length() > maxChars) {
+                buffer.truncated = true;
+                return;
+            }
+            buffer.text.append(line);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.qa.utils;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+
+/**
+ * SharedObjectMapper — the single Jackson ObjectMapper used across the framework.
+ *
+ * ObjectMapper is thread-safe once configured and caches serializers per
+ * type, so one instance is built at class load and shared by REST-Assured,
+ * APIClient's typed methods, fixtures and response parsing. The Blackbird
+ * module replaces reflective property access with generated lambdas.
+ * Unknown response fields are ignored so DTOs only declare what tests assert.
+ */
+public final class SharedObjectMapper {
+
+    private static final ObjectMapper MAPPER = JsonMapper.builder()
+            .addModule(new BlackbirdModule())
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .disable(SerializationFeature.FAIL_ON_EMPTY_BEANS)
+            .build();
+
+    private SharedObjectMapper() {
+        // Utility class — do not instantiate
+    }
+
+    /** @return Shared, fully configured mapper; must not be reconfigured by callers */
+    public static ObjectMapper get() {
+        return MAPPER;
+    }
+}
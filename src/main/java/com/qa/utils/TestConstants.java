@@ -62,6 +62,20 @@ public final class TestConstants {
 
         public static final String INVALID_PASSWORD =
                 getEnvOrDefault("TEST_INVALID_PASSWORD", "wrong_password");
+
+        /**
+         * Resolve the password of a user that is able to log in.
+         *
+         * @param username Test user name
+         * @return The user's password
+         * @throws IllegalArgumentException if the user has no valid credentials
+         */
+        public static String passwordFor(String username) {
+            if (STANDARD_USER.equals(username) || PROBLEM_USER.equals(username)) {
+                return STANDARD_PASSWORD;
+            }
+            throw new IllegalArgumentException("No login credentials known for user: " + username);
+        }
     }
 
     // =========================================================================
@@ -120,6 +134,21 @@ public final class TestConstants {
         public static final String NAME_Z_TO_A       = "Name (Z to A)";
     }
 
+    // =========================================================================
+    // SCENARIO TAGS
+    // =========================================================================
+
+    public static final class Tags {
+
+        private Tags() {}
+
+        /** API-only scenarios: never provision a browser. */
+        public static final String API = "@api";
+
+        /** Prefix of a tag binding the scenario to an environment, e.g. {@code @env:prod}. */
+        public static final String ENV_PREFIX = "@env:";
+    }
+
     // =========================================================================
     // ASSERTION MESSAGES
     // =========================================================================
@@ -0,0 +1,68 @@
+package com.qa.api;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Test;
+
+/**
+ * CassetteTest — request keys used to match recorded interactions.
+ */
+public class CassetteTest {
+
+    @Test
+    public void keyJoinsMethodTargetAndBodyHash() {
+        assertEquals("GET /posts?userId=1 -", Cassette.key("GET", "/posts?userId=1", "-"));
+    }
+
+    @Test
+    public void targetSortsQueryParameters() {
+        assertEquals("/posts?_page=2&userId=1",
+                Cassette.target(URI.create("https://api.example.com/posts?userId=1&_page=2")));
+        assertEquals(Cassette.target(URI.create("http://h/posts?b=2&a=1")),
+                Cassette.target(URI.create("http://h/posts?a=1&b=2")));
+    }
+
+    @Test
+    public void targetKeepsPathAndDropsOrigin() {
+        assertEquals("/", Cassette.target(URI.create("http://localhost:8080")));
+        assertEquals("/users/3f2504e0-4f89-11d3-9a0c-0305e82c3301",
+                Cassette.target(URI.create("http://localhost:8080/users/3f2504e0-4f89-11d3-9a0c-0305e82c3301")));
+        assertEquals("/search?q=a%20b", Cassette.target(URI.create("http://h/search?q=a%20b")));
+    }
+
+    @Test
+    public void emptyBodiesHashToDash() {
+        assertEquals("-", Cassette.bodyHash(null));
+        assertEquals("-", Cassette.bodyHash(""));
+        assertEquals("-", Cassette.bodyHash(new byte[0]));
+    }
+
+    @Test
+    public void jsonBodiesHashInCanonicalForm() {
+        String hash = Cassette.bodyHash("{\"title\":\"t\",\"userId\":1}");
+
+        assertEquals(16, hash.length());
+        assertEquals(hash, Cassette.bodyHash("{ \"userId\": 1, \"title\": \"t\" }"));
+        assertEquals(hash, Cassette.bodyHash("{\"title\":\"t\",\"userId\":1}".getBytes(StandardCharsets.UTF_8)));
+        assertNotEquals(hash, Cassette.bodyHash("{\"title\":\"u\",\"userId\":1}"));
+    }
+
+    @Test
+    public void ignoredBodyFieldsDoNotAffectTheHash() {
+        // api.cassette.ignored-body-fields = ["email", "username"]
+        assertEquals(Cassette.bodyHash("{\"name\":\"n\",\"email\":\"a@example.com\"}"),
+                Cassette.bodyHash("{\"name\":\"n\",\"email\":\"b@example.com\"}"));
+        assertEquals(Cassette.bodyHash("[{\"id\":1,\"username\":\"x\"}]"),
+                Cassette.bodyHash("[{\"id\":1,\"username\":\"y\"}]"));
+    }
+
+    @Test
+    public void nonJsonBodiesHashRawBytes() {
+        assertNotEquals(Cassette.bodyHash("plain a"), Cassette.bodyHash("plain b"));
+        assertEquals(Cassette.bodyHash("plain a"), Cassette.bodyHash("plain a".getBytes(StandardCharsets.UTF_8)));
+    }
+}
@@ -0,0 +1,39 @@
+package com.qa.api;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+/**
+ * LatencyRecorderTest — grouping of endpoints into templates.
+ */
+public class LatencyRecorderTest {
+
+    @Test
+    public void numericSegmentsBecomeIds() {
+        assertEquals("/users/{id}", LatencyRecorder.template("/users/1"));
+        assertEquals("/posts/{id}/comments/{id}", LatencyRecorder.template("/posts/12/comments/345"));
+    }
+
+    @Test
+    public void uuidSegmentsBecomeIds() {
+        assertEquals("/orders/{id}/items",
+                LatencyRecorder.template("/orders/3f2504e0-4f89-11d3-9a0c-0305e82c3301/items"));
+        assertEquals("/orders/{id}",
+                LatencyRecorder.template("/orders/3F2504E0-4F89-11D3-9A0C-0305E82C3301"));
+    }
+
+    @Test
+    public void mixedSegmentsAreKept() {
+        assertEquals("/users/v2", LatencyRecorder.template("/users/v2"));
+        assertEquals("/users/12abc", LatencyRecorder.template("/users/12abc"));
+        assertEquals("/orders/3f2504e0-4f89", LatencyRecorder.template("/orders/3f2504e0-4f89"));
+    }
+
+    @Test
+    public void queryAndOriginAreDropped() {
+        assertEquals("/posts", LatencyRecorder.template("/posts?userId=1&_page=2"));
+        assertEquals("/posts/{id}", LatencyRecorder.template("https://api.example.com:8443/posts/7?x=1"));
+        assertEquals("", LatencyRecorder.template("http://localhost:8080"));
+    }
+}
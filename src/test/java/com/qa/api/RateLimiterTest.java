@@ -0,0 +1,118 @@
+package com.qa.api;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import org.junit.Test;
+
+/**
+ * RateLimiterTest — limit parsing, endpoint globs and token-bucket reservations.
+ */
+public class RateLimiterTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    public void parsesHostPatternRateAndBurst() {
+        List<RateLimiter.Bucket> buckets = RateLimiter.parse(List.of(
+                "api.example.com 20/s burst 10",
+                "  api.example.com /posts/* 5/s  "));
+
+        assertEquals(2, buckets.size());
+        assertEquals("api.example.com 20/s burst 10", buckets.get(0).toString());
+        assertEquals("api.example.com /posts/* 5/s", buckets.get(1).toString());
+        assertTrue(buckets.get(0).matches("api.example.com", "/anything"));
+        assertTrue(buckets.get(1).matches("api.example.com", "/posts/1"));
+        assertFalse(buckets.get(1).matches("api.example.com", "/users/1"));
+    }
+
+    @Test
+    public void rejectsMalformedAndZeroRates() {
+        assertThrows(IllegalArgumentException.class, () -> RateLimiter.parse(List.of("api.example.com 20")));
+        assertThrows(IllegalArgumentException.class, () -> RateLimiter.parse(List.of("api.example.com 20/h")));
+        assertThrows(IllegalArgumentException.class, () -> RateLimiter.parse(List.of("api.example.com 0/s")));
+    }
+
+    @Test
+    public void singleStarStaysWithinOneSegment() {
+        Pattern pattern = RateLimiter.glob("/posts/*/comments");
+
+        assertTrue(pattern.matcher("/posts/42/comments").matches());
+        assertFalse(pattern.matcher("/posts/42/7/comments").matches());
+        assertFalse(pattern.matcher("/posts/42/comments/1").matches());
+    }
+
+    @Test
+    public void trailingDoubleStarMatchesTheRest() {
+        Pattern pattern = RateLimiter.glob("/posts/**");
+
+        assertTrue(pattern.matcher("/posts").matches());
+        assertTrue(pattern.matcher("/posts/1").matches());
+        assertTrue(pattern.matcher("/posts/1/comments").matches());
+        assertFalse(pattern.matcher("/postsx").matches());
+        assertFalse(pattern.matcher("/users/1").matches());
+    }
+
+    @Test
+    public void globQuotesRegexCharacters() {
+        Pattern pattern = RateLimiter.glob("/search.json");
+
+        assertTrue(pattern.matcher("/search.json").matches());
+        assertFalse(pattern.matcher("/searchXjson").matches());
+    }
+
+    @Test
+    public void hostWithoutPortMatchesAnyPort() {
+        RateLimiter.Bucket bucket = RateLimiter.parse(List.of("localhost 5/s")).get(0);
+
+        assertTrue(bucket.matches("localhost", "/"));
+        assertTrue(bucket.matches("LOCALHOST:8080", "/"));
+        assertFalse(bucket.matches("localhost.example.com", "/"));
+    }
+
+    @Test
+    public void hostWithPortMatchesThatPortOnly() {
+        RateLimiter.Bucket bucket = RateLimiter.parse(List.of("localhost:8080 5/s")).get(0);
+
+        assertTrue(bucket.matches("localhost:8080", "/"));
+        assertFalse(bucket.matches("localhost:9090", "/"));
+        assertFalse(bucket.matches("localhost", "/"));
+    }
+
+    @Test
+    public void wildcardHostMatchesEveryHost() {
+        RateLimiter.Bucket bucket = RateLimiter.parse(List.of("* /health 1/s")).get(0);
+
+        assertTrue(bucket.matches("a.example.com", "/health"));
+        assertTrue(bucket.matches("b.example.com:443", "/health"));
+        assertFalse(bucket.matches("a.example.com", "/status"));
+    }
+
+    @Test
+    public void burstIsServedImmediatelyThenQueued() {
+        RateLimiter.Bucket bucket = RateLimiter.parse(List.of("api.example.com 1/s burst 2")).get(0);
+
+        assertEquals(0, bucket.reserve());
+        assertEquals(0, bucket.reserve());
+        long third = bucket.reserve();
+        long fourth = bucket.reserve();
+        assertTrue("third waits about one interval: " + third, third > SECOND / 2 && third <= SECOND);
+        assertTrue("fourth queues behind the third: " + fourth, fourth > third + SECOND / 2);
+    }
+
+    @Test
+    public void perMinuteRateSpacesPermitsInSeconds() {
+        RateLimiter.Bucket bucket = RateLimiter.parse(List.of("api.example.com 30/m")).get(0);
+
+        assertEquals(0, bucket.reserve());
+        long next = bucket.reserve();
+        assertTrue("30/m leaves two seconds between permits: " + next,
+                next > SECOND && next <= 2 * SECOND);
+    }
+}
@@ -0,0 +1,47 @@
+package com.qa.load;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import io.cucumber.plugin.ConcurrentEventListener;
+import io.cucumber.plugin.event.EventPublisher;
+import io.cucumber.plugin.event.Status;
+import io.cucumber.plugin.event.TestCaseFinished;
+
+/**
+ * IterationListener — Cucumber plugin counting scenario outcomes and time across load iterations.
+ *
+ * Cucumber creates one instance per run, so the counters are shared statics.
+ */
+public class IterationListener implements ConcurrentEventListener {
+
+    private static final LongAdder passed = new LongAdder();
+    private static final LongAdder failed = new LongAdder();
+    private static final LongAdder scenarioNanos = new LongAdder();
+
+    @Override
+    public void setEventPublisher(EventPublisher publisher) {
+        publisher.registerHandlerFor(TestCaseFinished.class, event -> {
+            scenarioNanos.add(event.getResult().getDuration().toNanos());
+            if (event.getResult().getStatus() == Status.PASSED) {
+                passed.increment();
+            } else {
+                failed.increment();
+            }
+        });
+    }
+
+    /** @return Scenarios that passed */
+    static long passed() {
+        return passed.sum();
+    }
+
+    /** @return Scenarios that did not pass (failed, undefined, pending or skipped) */
+    static long failed() {
+        return failed.sum();
+    }
+
+    /** @return Summed duration of all finished scenarios */
+    static long scenarioNanos() {
+        return scenarioNanos.sum();
+    }
+}
@@ -0,0 +1,168 @@
+package com.qa.load;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.qa.api.EndpointLatency;
+import com.qa.utils.ConfigManager;
+
+import io.qameta.allure.Allure;
+import io.qameta.allure.AllureLifecycle;
+import io.qameta.allure.model.Label;
+import io.qameta.allure.model.Status;
+import io.qameta.allure.model.StatusDetails;
+import io.qameta.allure.model.TestResult;
+
+/**
+ * LoadReport — summary of one load run.
+ *
+ * Published three ways: logged, written to target/load as text and CSV, and
+ * recorded as a single Allure test result ("Load: &lt;tags&gt;") carrying both
+ * files as attachments, so the percentiles sit next to the functional results
+ * in the Allure report. The result fails when any endpoint breaches
+ * load.thresholds.
+ */
+final class LoadReport {
+
+    private static final Logger logger = LogManager.getLogger(LoadReport.class);
+    private static final Path OUTPUT_DIR = Paths.get("target", "load");
+
+    private final LoadRunner.Profile profile;
+    private final Duration elapsed;
+    private final long started;
+    private final long dropped;
+    private final long passed;
+    private final long failed;
+    private final Duration overhead;
+    private final List<EndpointLatency> endpoints;
+
+    LoadReport(LoadRunner.Profile profile, Duration elapsed, long started, long dropped,
+               long passed, long failed, Duration overhead, List<EndpointLatency> endpoints) {
+        this.profile = profile;
+        this.elapsed = elapsed;
+        this.started = started;
+        this.dropped = dropped;
+        this.passed = passed;
+        this.failed = failed;
+        this.overhead = overhead;
+        this.endpoints = endpoints;
+    }
+
+    /**
+     * Log, write and attach the report.
+     *
+     * @return true when no threshold was breached
+     */
+    boolean publish() {
+        List<String> breaches = breaches();
+        String text = asText(breaches);
+        logger.info("Load report\n{}", text);
+        write("load-report.txt", text);
+        write("load-report.csv", asCsv());
+        if (ConfigManager.isAllureEnabled()) {
+            writeAllureResult(text, breaches);
+        }
+        return breaches.isEmpty();
+    }
+
+    // -------------------------------------------------------------------------
+    // Internal
+    // -------------------------------------------------------------------------
+
+    private List<String> breaches() {
+        double p99Limit = ConfigManager.getLoadP99ThresholdMillis();
+        double errorLimit = ConfigManager.getLoadErrorRateThreshold();
+        List<String> breaches = new ArrayList<>();
+        for (EndpointLatency endpoint : endpoints) {
+            if (p99Limit > 0 && endpoint.p99Millis() > p99Limit) {
+                breaches.add(String.format(Locale.ROOT, "%s p99 %.1f ms > %.1f ms",
+                        endpoint.endpoint(), endpoint.p99Millis(), p99Limit));
+            }
+            if (errorLimit > 0 && endpoint.errorRate() > errorLimit) {
+                breaches.add(String.format(Locale.ROOT, "%s error rate %.2f%% > %.2f%%",
+                        endpoint.endpoint(), endpoint.errorRate() * 100, errorLimit * 100));
+            }
+        }
+        return breaches;
+    }
+
+    private String asText(List<String> breaches) {
+        double seconds = Math.max(elapsed.toMillis(), 1) / 1000.0;
+        StringBuilder text = new StringBuilder()
+                .append("Profile    : ").append(profile).append('\n')
+                .append(String.format(Locale.ROOT, "Elapsed    : %.1f s%n", seconds))
+                .append(String.format(Locale.ROOT, "Iterations : %d started, %d dropped (%.2f/s)%n",
+                        started, dropped, started / seconds))
+                .append(String.format(Locale.ROOT, "Scenarios  : %d passed, %d failed (%.2f/s)%n",
+                        passed, failed, (passed + failed) / seconds))
+                .append(String.format(Locale.ROOT, "Start-up   : %.1f ms per iteration (runtime and glue set-up, "
+                        + "excluded from scenario time)%n", overhead.toNanos() / 1e6 / Math.max(started, 1)))
+                .append('\n');
+        if (endpoints.isEmpty()) {
+            text.append("No API requests were recorded — do the tags select API scenarios?\n");
+        }
+        endpoints.forEach(endpoint -> text.append(endpoint).append('\n'));
+        if (!breaches.isEmpty()) {
+            text.append("\nThreshold breaches:\n");
+            breaches.forEach(breach -> text.append("  ").append(breach).append('\n'));
+        }
+        return text.toString();
+    }
+
+    private String asCsv() {
+        StringBuilder csv = new StringBuilder("endpoint,requests,errors,mean_ms,p50_ms,p90_ms,p99_ms,max_ms\n");
+        for (EndpointLatency e : endpoints) {
+            csv.append(String.format(Locale.ROOT, "\"%s\",%d,%d,%.3f,%.3f,%.3f,%.3f,%.3f%n",
+                    e.endpoint(), e.requests(), e.errors(), e.meanMillis(),
+                    e.p50Millis(), e.p90Millis(), e.p99Millis(), e.maxMillis()));
+        }
+        return csv.toString();
+    }
+
+    private static void write(String fileName, String content) {
+        try {
+            Files.createDirectories(OUTPUT_DIR);
+            Files.writeString(OUTPUT_DIR.resolve(fileName), content, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            logger.warn("Could not write {}: {}", fileName, e.getMessage());
+        }
+    }
+
+    private void writeAllureResult(String text, List<String> breaches) {
+        AllureLifecycle lifecycle = Allure.getLifecycle();
+        String uuid = UUID.randomUUID().toString();
+        long stop = System.currentTimeMillis();
+        lifecycle.scheduleTestCase(new TestResult()
+                .setUuid(uuid)
+                .setName("Load: " + profile.tags())
+                .setFullName("com.qa.load.LoadRunner " + profile.tags())
+                .setHistoryId("load:" + profile.model() + ":" + profile.tags())
+                .setDescription(profile.toString())
+                .setLabels(List.of(
+                        new Label().setName("suite").setValue("Load"),
+                        new Label().setName("tag").setValue("load"))));
+        lifecycle.startTestCase(uuid);
+        lifecycle.addAttachment("Load report", "text/plain", "txt", text.getBytes(StandardCharsets.UTF_8));
+        lifecycle.addAttachment("Endpoint latencies", "text/csv", "csv", asCsv().getBytes(StandardCharsets.UTF_8));
+        lifecycle.updateTestCase(uuid, result -> result
+                .setStart(stop - elapsed.toMillis())
+                .setStatus(breaches.isEmpty() ? Status.PASSED : Status.FAILED)
+                .setStatusDetails(breaches.isEmpty()
+                        ? null
+                        : new StatusDetails().setMessage(String.join("\n", breaches))));
+        lifecycle.stopTestCase(uuid);
+        lifecycle.updateTestCase(uuid, result -> result.setStop(stop));
+        lifecycle.writeTestCase(uuid);
+    }
+}
@@ -0,0 +1,241 @@
+package com.qa.load;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.qa.api.LatencyRecorder;
+import com.qa.runners.RunFinishedListener;
+import com.qa.utils.ConfigManager;
+
+import io.cucumber.core.feature.FeatureParser;
+import io.cucumber.core.gherkin.Feature;
+import io.cucumber.core.options.CommandlineOptionsParser;
+import io.cucumber.core.options.RuntimeOptions;
+import io.cucumber.core.runtime.FeaturePathFeatureSupplier;
+import io.cucumber.core.runtime.Runtime;
+
+/**
+ * LoadRunner — replays the Cucumber API scenarios as load.
+ *
+ * One iteration is one in-process Cucumber run of the scenarios matching
+ * load.tags, so journeys are defined once in the feature files and reused
+ * here unchanged. Options and features are parsed once up front and every
+ * iteration's runtime is handed the same parsed features; what remains per
+ * iteration (runtime and glue set-up) is reported as start-up overhead,
+ * separately from scenario time. Request latencies are captured per endpoint
+ * inside APIClient by {@link LatencyRecorder}, so that overhead never shows
+ * up in the percentiles either.
+ *
+ * <ul>
+ *   <li>closed — load.users virtual users each loop iterations back-to-back;
+ *       users start evenly over the ramp-up</li>
+ *   <li>open — iterations start at load.rate per second (ramped linearly),
+ *       independent of how long earlier ones take; starts beyond
+ *       load.max-in-flight are counted as dropped rather than queued</li>
+ * </ul>
+ *
+ * Run with {@code mvn -Pload test-compile exec:java}; add TEST_ENV=stub to
+ * load the embedded stub server instead. Exits with status 1 when a threshold in
+ * load.thresholds is breached.
+ */
+public final class LoadRunner {
+
+    private static final Logger logger = LogManager.getLogger(LoadRunner.class);
+    private static final long TICK_MILLIS = 10;
+
+    private final Profile profile;
+    private final ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+    private final RuntimeOptions options;
+    private final List<Feature> features;
+    private final ExecutorService iterations = Executors.newVirtualThreadPerTaskExecutor();
+    private final LongAdder started = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder iterationNanos = new LongAdder();
+
+    /**
+     * Load shape resolved from the load block of application.conf.
+     *
+     * @param model     closed | open
+     * @param tags      Cucumber tag expression of the replayed scenarios
+     * @param users     Virtual users (closed model)
+     * @param rate      Iterations started per second (open model)
+     * @param maxInFlight Concurrent iteration cap (open model)
+     * @param rampUp    Linear ramp-up period
+     * @param duration  Total run time, ramp-up included
+     */
+    record Profile(String model, String tags, int users, double rate, int maxInFlight,
+                   Duration rampUp, Duration duration) {
+
+        static Profile fromConfig() {
+            return new Profile(ConfigManager.getLoadModel().toLowerCase(Locale.ROOT), ConfigManager.getLoadTags(),
+                    Math.max(1, ConfigManager.getLoadUsers()), ConfigManager.getLoadRate(),
+                    Math.max(1, ConfigManager.getLoadMaxInFlight()),
+                    Duration.ofSeconds(Math.max(0, ConfigManager.getLoadRampUpSeconds())),
+                    Duration.ofSeconds(Math.max(1, ConfigManager.getLoadDurationSeconds())));
+        }
+
+        @Override
+        public String toString() {
+            String shape = "open".equals(model)
+                    ? rate + " iterations/s (max " + maxInFlight + " in flight)"
+                    : users + " users";
+            return model + " model, " + shape + ", ramp-up " + rampUp.toSeconds() + " s, duration "
+                    + duration.toSeconds() + " s, tags '" + tags + "'";
+        }
+    }
+
+    private LoadRunner(Profile profile) {
+        this.profile = profile;
+        this.options = new CommandlineOptionsParser(System.out).parse(
+                "--glue", "com.qa.stepdefs",
+                "--tags", profile.tags(),
+                "--plugin", IterationListener.class.getName(),
+                "--plugin", RunFinishedListener.class.getName(),
+                "--monochrome",
+                "classpath:features").build();
+        long parseStart = System.nanoTime();
+        this.features = new FeaturePathFeatureSupplier(() -> classLoader, options,
+                new FeatureParser(UUID::randomUUID)).get();
+        logger.info("Parsed {} feature files in {} ms", features.size(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - parseStart));
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        System.setProperty("cucumber.publish.quiet", "true");
+        Profile profile = Profile.fromConfig();
+        logger.info("Starting load: {}", profile);
+
+        LoadRunner runner = new LoadRunner(profile);
+        LatencyRecorder.start();
+        long startNanos = System.nanoTime();
+        switch (profile.model()) {
+            case "open" -> runner.runOpen(startNanos);
+            case "closed" -> runner.runClosed(startNanos);
+            default -> throw new IllegalArgumentException("Unknown load.model '" + profile.model()
+                    + "'; expected closed or open");
+        }
+        runner.awaitCompletion();
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - startNanos);
+        LatencyRecorder.stop();
+
+        Duration overhead = Duration.ofNanos(Math.max(0,
+                runner.iterationNanos.sum() - IterationListener.scenarioNanos()));
+        LoadReport report = new LoadReport(profile, elapsed, runner.started.sum(), runner.dropped.sum(),
+                IterationListener.passed(), IterationListener.failed(), overhead, LatencyRecorder.snapshot());
+        boolean passed = report.publish();
+        System.exit(passed ? 0 : 1);
+    }
+
+    // -------------------------------------------------------------------------
+    // Load models
+    // -------------------------------------------------------------------------
+
+    private void runClosed(long startNanos) throws InterruptedException {
+        long deadline = startNanos + profile.duration().toNanos();
+        long stagger = profile.rampUp().toNanos() / profile.users();
+        for (int user = 0; user < profile.users(); user++) {
+            long userStart = startNanos + user * stagger;
+            iterations.execute(() -> {
+                sleepUntil(userStart);
+                while (System.nanoTime() < deadline && !Thread.currentThread().isInterrupted()) {
+                    started.increment();
+                    iterate();
+                }
+            });
+        }
+        sleepUntil(deadline);
+    }
+
+    private void runOpen(long startNanos) throws InterruptedException {
+        long deadline = startNanos + profile.duration().toNanos();
+        Semaphore slots = new Semaphore(profile.maxInFlight());
+        double due = 0;
+        long previous = startNanos;
+        while (true) {
+            long now = System.nanoTime();
+            if (now >= deadline) {
+                break;
+            }
+            due += currentRate(now - startNanos) * (now - previous) / 1e9;
+            previous = now;
+            for (; due >= 1; due--) {
+                if (!slots.tryAcquire()) {
+                    dropped.increment();
+                    continue;
+                }
+                started.increment();
+                iterations.execute(() -> {
+                    try {
+                        iterate();
+                    } finally {
+                        slots.release();
+                    }
+                });
+            }
+            Thread.sleep(TICK_MILLIS);
+        }
+    }
+
+    /** Open-model rate at a point in the run, ramped linearly to load.rate. */
+    private double currentRate(long elapsedNanos) {
+        long ramp = profile.rampUp().toNanos();
+        return ramp == 0 || elapsedNanos >= ramp
+                ? profile.rate()
+                : profile.rate() * elapsedNanos / ramp;
+    }
+
+    // -------------------------------------------------------------------------
+    // Internal
+    // -------------------------------------------------------------------------
+
+    /**
+     * One in-process Cucumber run of the selected scenarios over the features
+     * parsed at start-up. A Cucumber runtime runs once, so each iteration
+     * builds its own; its wall time feeds the start-up overhead figure.
+     */
+    private void iterate() {
+        long start = System.nanoTime();
+        try {
+            Runtime.builder()
+                    .withRuntimeOptions(options)
+                    .withClassLoader(() -> classLoader)
+                    .withFeatureSupplier(() -> features)
+                    .build()
+                    .run();
+        } catch (RuntimeException e) {
+            logger.error("Load iteration crashed", e);
+        } finally {
+            iterationNanos.add(System.nanoTime() - start);
+        }
+    }
+
+    private void awaitCompletion() throws InterruptedException {
+        iterations.shutdown();
+        long grace = ConfigManager.getAPITimeout() * 3L;
+        if (!iterations.awaitTermination(grace, TimeUnit.MILLISECONDS)) {
+            logger.warn("Iterations still running {} ms after the deadline; abandoning them", grace);
+            iterations.shutdownNow();
+        }
+    }
+
+    private static void sleepUntil(long nanoTime) {
+        long remaining = nanoTime - System.nanoTime();
+        if (remaining > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(remaining);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
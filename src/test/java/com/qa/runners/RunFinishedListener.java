@@ -0,0 +1,22 @@
+package com.qa.runners;
+
+import com.qa.api.APIClient;
+
+import io.cucumber.plugin.ConcurrentEventListener;
+import io.cucumber.plugin.event.EventPublisher;
+import io.cucumber.plugin.event.TestRunFinished;
+
+/**
+ * RunFinishedListener — Cucumber plugin running end-of-run work while
+ * logging is still up.
+ *
+ * Saves recorded API cassettes once the last scenario has finished, instead
+ * of leaving it to a JVM shutdown hook that races Log4j's own.
+ */
+public class RunFinishedListener implements ConcurrentEventListener {
+
+    @Override
+    public void setEventPublisher(EventPublisher publisher) {
+        publisher.registerHandlerFor(TestRunFinished.class, event -> APIClient.saveCassettes());
+    }
+}
@@ -1,25 +1,28 @@
 package com.qa.runners;
 
-import org.junit.runner.RunWith;
+import static io.cucumber.junit.platform.engine.Constants.ANSI_COLORS_DISABLED_PROPERTY_NAME;
+import static io.cucumber.junit.platform.engine.Constants.GLUE_PROPERTY_NAME;
+import static io.cucumber.junit.platform.engine.Constants.PLUGIN_PROPERTY_NAME;
 
-import io.cucumber.junit.Cucumber;
-import io.cucumber.junit.CucumberOptions;
+import org.junit.platform.suite.api.ConfigurationParameter;
+import org.junit.platform.suite.api.IncludeEngines;
+import org.junit.platform.suite.api.IncludeTags;
+import org.junit.platform.suite.api.SelectClasspathResource;
+import org.junit.platform.suite.api.Suite;
 
 /**
  * SmokeTestRunner — runs only scenarios tagged with @smoke.
  * Triggered on every pull request for fast feedback.
  */
-@RunWith(Cucumber.class)
-@CucumberOptions(
-        features = "src/test/resources/features",
-        glue = {"com.qa.stepdefs"},
-        tags = "@smoke",
-        plugin = {
-                "pretty",
-                "io.qameta.allure.cucumber7jvm.AllureCucumber7Jvm",
-                "json:target/cucumber-reports/smoke-cucumber.json"
-        },
-        monochrome = true
-)
+@Suite
+@IncludeEngines("cucumber")
+@SelectClasspathResource("features")
+@IncludeTags("smoke")
+@ConfigurationParameter(key = GLUE_PROPERTY_NAME, value = "com.qa.stepdefs")
+@ConfigurationParameter(key = PLUGIN_PROPERTY_NAME, value = "pretty, "
+        + "io.qameta.allure.cucumber7jvm.AllureCucumber7Jvm, "
+        + "com.qa.runners.RunFinishedListener, "
+        + "json:target/cucumber-reports/smoke-cucumber.json")
+@ConfigurationParameter(key = ANSI_COLORS_DISABLED_PROPERTY_NAME, value = "true")
 public class SmokeTestRunner {
 }
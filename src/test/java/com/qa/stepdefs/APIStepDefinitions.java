@@ -1,16 +1,26 @@
 package com.qa.stepdefs;
 
-import java.io.InputStream;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.junit.Assert;
 
 import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.qa.api.APIClient;
+import com.qa.api.APIResponse;
+import com.qa.api.AsyncAPIClient;
+import com.qa.api.PaginationStrategy;
+import com.qa.api.ResponseBody;
+import com.qa.api.ResponseJson;
+import com.qa.api.model.User;
+import com.qa.utils.ConfigManager;
+import com.qa.utils.FixtureRepository;
 
 import io.cucumber.java.en.Given;
 import io.cucumber.java.en.Then;
@@ -24,11 +34,16 @@ import io.restassured.response.Response;
 public class APIStepDefinitions {
 
     private static final Logger logger = LogManager.getLogger(APIStepDefinitions.class);
-    private static final ObjectMapper MAPPER = new ObjectMapper();
 
     private APIClient apiClient;
     private Response response;
     private Map<String, Object> requestBody;
+    private List<APIResponse> batchResponses;
+    private List<User> users;
+    private long streamedRecords = -1;
+    private Map<String, Long> streamedFieldCounts;
+    private Response parsedResponse;
+    private ResponseJson responseJson;
 
     // -------------------------------------------------------------------------
     // Given
@@ -80,10 +95,10 @@ public class APIStepDefinitions {
     @Step("POST {endpoint} using fixture {fixtureName}")
     public void i_make_post_request_with_fixture(String endpoint, String fixtureName) {
         ensureClientInitialized();
-        requestBody = loadFixture(fixtureName);
-        response = apiClient.setBody(requestBody).post(endpoint);
+        response = apiClient.postJson(endpoint, FixtureRepository.bytes(fixtureName));
         Assert.assertNotNull("No response from POST " + endpoint, response);
         logger.info("POST {} (fixture: {}) → {}", endpoint, fixtureName, response.getStatusCode());
+        logger.debug("Fixtures: {}", FixtureRepository.stats());
     }
 
     @When("I make a PUT request to {string} with body:")
@@ -116,6 +131,49 @@ public class APIStepDefinitions {
         }
     }
 
+    @When("I fetch {string} as a list of users")
+    @Step("GET {endpoint} as typed users")
+    public void i_fetch_as_list_of_users(String endpoint) {
+        ensureClientInitialized();
+        users = apiClient.get(endpoint, new TypeReference<List<User>>() {});
+        logger.info("GET {} → {} users", endpoint, users.size());
+    }
+
+    @When("I stream {string} in pages of {int} using {word} pagination")
+    @Step("Stream {endpoint} in pages of {pageSize} ({style})")
+    public void i_stream_in_pages(String endpoint, int pageSize, String style) {
+        ensureClientInitialized();
+        PaginationStrategy pagination = PaginationStrategy.of(style, pageSize);
+        // Only per-field tallies are kept, so memory stays bounded however many records stream by
+        Map<String, Long> fieldCounts = new HashMap<>();
+        LongAdder count = new LongAdder();
+        try (Stream<JsonNode> records = apiClient.paginate(endpoint, pagination)) {
+            records.forEach(record -> {
+                count.increment();
+                record.fields().forEachRemaining(field -> {
+                    if (!field.getValue().isNull()) {
+                        fieldCounts.merge(field.getKey(), 1L, Long::sum);
+                    }
+                });
+            });
+        }
+        streamedRecords = count.sum();
+        streamedFieldCounts = fieldCounts;
+        logger.info("Streamed {} records from {} ({})", streamedRecords, endpoint, pagination);
+    }
+
+    @When("I make parallel GET requests to:")
+    @Step("GET endpoints in parallel")
+    public void i_make_parallel_get_requests(List<String> endpoints) {
+        try {
+            batchResponses = new AsyncAPIClient().getAll(endpoints).join();
+            logger.info("Parallel GET of {} endpoints → {}", endpoints.size(), batchResponses);
+        } catch (Exception e) {
+            logger.error("Parallel GET failed: {}", endpoints, e);
+            throw new RuntimeException("Parallel GET failed for: " + endpoints, e);
+        }
+    }
+
     // -------------------------------------------------------------------------
     // When — header / param configuration
     // -------------------------------------------------------------------------
@@ -143,10 +201,11 @@ public class APIStepDefinitions {
     public void response_status_code_should_be(int expectedStatus) {
         Assert.assertNotNull("No response to assert; was the HTTP step executed?", response);
         int actualStatus = response.getStatusCode();
-        Assert.assertEquals(
-                "Expected status " + expectedStatus + " but got " + actualStatus
-                        + ". Body: " + response.getBody().asString(),
-                expectedStatus, actualStatus);
+        // Only decode the body when the assertion is about to fail
+        if (actualStatus != expectedStatus) {
+            Assert.fail("Expected status " + expectedStatus + " but got " + actualStatus
+                    + ". Body: " + ResponseBody.preview(response, ConfigManager.getAPIResponsePreviewChars()));
+        }
         logger.info("Verified response status: {}", actualStatus);
     }
 
@@ -164,7 +223,7 @@ public class APIStepDefinitions {
     @Step("Verify response field {field} is not null")
     public void response_field_should_not_be_null(String field) {
         Assert.assertNotNull("Response is null", response);
-        Object value = response.jsonPath().get(field);
+        Object value = responseJson().get(field);
         Assert.assertNotNull("Response body field '" + field + "' should not be null", value);
         logger.info("Verified response field '{}' = {}", field, value);
     }
@@ -173,13 +232,78 @@ public class APIStepDefinitions {
     @Step("Verify response field {field} equals {expectedValue}")
     public void response_field_should_equal(String field, String expectedValue) {
         Assert.assertNotNull("Response is null", response);
-        Object actual = response.jsonPath().get(field);
+        Object actual = responseJson().get(field);
         Assert.assertEquals(
                 "Response field '" + field + "' mismatch",
                 expectedValue, String.valueOf(actual));
         logger.info("Verified response field '{}' = '{}'", field, actual);
     }
 
+    @Then("The response body fields should match:")
+    @Step("Verify response fields")
+    public void response_fields_should_match(Map<String, String> expectedFields) {
+        Assert.assertNotNull("Response is null", response);
+        List<String> mismatches = responseJson().mismatches(expectedFields);
+        Assert.assertTrue("Response field mismatches:\n  " + String.join("\n  ", mismatches),
+                mismatches.isEmpty());
+        logger.info("Verified {} response fields", expectedFields.size());
+    }
+
+    @Then("Every user should have an id, username and email")
+    @Step("Verify every user has an id, username and email")
+    public void every_user_should_have_id_username_and_email() {
+        Assert.assertNotNull("No users to assert; was the typed GET step executed?", users);
+        Assert.assertFalse("Users list is empty", users.isEmpty());
+        for (User user : users) {
+            Assert.assertNotNull("User without id: " + user, user.id());
+            Assert.assertNotNull("User without username: " + user, user.username());
+            Assert.assertTrue("User without a valid email: " + user,
+                    user.email() != null && user.email().contains("@"));
+        }
+        logger.info("Verified {} typed users", users.size());
+    }
+
+    @Then("Every streamed record field {string} should not be null")
+    @Step("Verify every streamed record has field {field}")
+    public void every_streamed_record_field_should_not_be_null(String field) {
+        Assert.assertNotNull("No paginated stream; was the streaming step executed?", streamedFieldCounts);
+        long missing = streamedRecords - streamedFieldCounts.getOrDefault(field, 0L);
+        Assert.assertEquals(missing + " of " + streamedRecords + " streamed records have no '" + field + "'",
+                0, missing);
+        logger.info("Verified field '{}' across {} streamed records", field, streamedRecords);
+    }
+
+    @Then("{int} records should have been streamed")
+    @Step("Verify {expected} records were streamed")
+    public void records_should_have_been_streamed(int expected) {
+        Assert.assertTrue("No paginated stream; was the streaming step executed?", streamedRecords >= 0);
+        Assert.assertEquals("Streamed record count", expected, streamedRecords);
+    }
+
+    @Then("Every response status code should be {int}")
+    @Step("Verify every response status code is {expectedStatus}")
+    public void every_response_status_code_should_be(int expectedStatus) {
+        Assert.assertNotNull("No batch responses to assert; was the parallel step executed?", batchResponses);
+        for (APIResponse batchResponse : batchResponses) {
+            if (batchResponse.statusCode() != expectedStatus) {
+                Assert.fail("Expected status " + expectedStatus + " for " + batchResponse
+                        + ". Body: " + batchResponse.body());
+            }
+        }
+        logger.info("Verified {} responses returned {}", batchResponses.size(), expectedStatus);
+    }
+
+    @Then("Every response body field {string} should not be null")
+    @Step("Verify every response field {field} is not null")
+    public void every_response_field_should_not_be_null(String field) {
+        Assert.assertNotNull("No batch responses to assert; was the parallel step executed?", batchResponses);
+        for (APIResponse batchResponse : batchResponses) {
+            Assert.assertNotNull("Response body field '" + field + "' should not be null for " + batchResponse,
+                    ResponseJson.of(batchResponse.body()).get(field));
+        }
+        logger.info("Verified field '{}' in {} responses", field, batchResponses.size());
+    }
+
     // -------------------------------------------------------------------------
     // Helpers
     // -------------------------------------------------------------------------
@@ -191,16 +315,12 @@ public class APIStepDefinitions {
         }
     }
 
-    private Map<String, Object> loadFixture(String fixtureName) {
-        String resourcePath = "/data/" + fixtureName + ".json";
-        try (InputStream is = getClass().getResourceAsStream(resourcePath)) {
-            if (is == null) {
-                throw new RuntimeException("Fixture not found on classpath: " + resourcePath);
-            }
-            return MAPPER.readValue(is, new TypeReference<Map<String, Object>>() {});
-        } catch (Exception e) {
-            logger.error("Failed to load fixture: {}", fixtureName, e);
-            throw new RuntimeException("Cannot load fixture: " + fixtureName, e);
+    /** Parse the current response once, however many fields are asserted on it. */
+    private ResponseJson responseJson() {
+        if (parsedResponse != response) {
+            responseJson = ResponseJson.of(ResponseBody.inMemory(response));
+            parsedResponse = response;
         }
+        return responseJson;
     }
 }
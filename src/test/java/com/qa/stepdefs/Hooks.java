@@ -1,15 +1,17 @@
 package com.qa.stepdefs;
 
-import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Paths;
-import java.util.Optional;
+import java.util.List;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import com.qa.api.APIClient;
+import com.qa.utils.ArtifactWriter;
 import com.qa.utils.BrowserContextManager;
 import com.qa.utils.CommonUtils;
+import com.qa.utils.ConfigManager;
+import com.qa.utils.ScenarioContext;
+import com.qa.utils.ScenarioLogAppender;
 
 import io.cucumber.java.After;
 import io.cucumber.java.Before;
@@ -24,58 +26,73 @@ public class Hooks {
     private static final Logger logger = LogManager.getLogger(Hooks.class);
 
     /**
-     * Runs before every scenario: initialise a fresh browser, context, and page.
-     * The ThreadLocal design in BrowserContextManager makes this safe for
-     * parallel execution.
+     * Runs before every scenario: binds the scenario's identity and tags to the
+     * current thread, and its {@code @env:<name>} environment when tagged with
+     * one. No browser is started here — BrowserContextManager
+     * provisions one lazily when a page object first asks for it, and refuses
+     * outright for @api scenarios.
      */
     @Before(order = 0)
-    public void setUp() {
-        logger.info("===== Setting up test environment (thread: {}) =====",
-                Thread.currentThread().threadId());
-        Allure.step("Initializing browser");
-        BrowserContextManager.initBrowser();
-        BrowserContextManager.createContext();
-        BrowserContextManager.createPage();
+    public void setUp(Scenario scenario) {
+        ScenarioContext context = new ScenarioContext(scenario.getId(), scenario.getName(),
+                scenario.getUri().toString(), List.copyOf(scenario.getSourceTagNames()));
+        ScenarioContext.bind(context);
+        ScenarioLogAppender.open(scenario.getId());
+        context.environment().ifPresent(ConfigManager::bindEnvironment);
+        logger.info("===== Setting up test environment (thread: {}, env: {}, browser: {}) =====",
+                Thread.currentThread().threadId(), ConfigManager.getEnvironment(),
+                context.requiresBrowser() ? "on demand" : "none");
     }
 
     /**
      * Runs after every scenario: captures a screenshot on failure, attaches
-     * the current URL, then tears down all browser resources.
+     * the current URL, then tears down whatever browser resources the
+     * scenario provisioned and attaches the scenario's own log lines.
+     * Scenarios that never opened a page skip the browser evidence entirely.
      */
     @After(order = 0)
     public void tearDown(Scenario scenario) {
         logger.info("===== Tearing down test environment (thread: {}) =====",
                 Thread.currentThread().threadId());
+        boolean hasPage = BrowserContextManager.hasPage();
         try {
             if (scenario.isFailed()) {
                 logger.error("Scenario FAILED: {}", scenario.getName());
-                Allure.step("Scenario failed — capturing screenshot");
-
-                Optional<String> screenshotPath =
-                        CommonUtils.takeScreenshot("failed_" + System.currentTimeMillis());
+                if (hasPage) {
+                    Allure.step("Scenario failed — capturing screenshot");
 
-                screenshotPath.ifPresentOrElse(
-                        path -> {
-                            try {
-                                Allure.addAttachment("Failure Screenshot", "image/png",
-                                        Files.newInputStream(Paths.get(path)), ".png");
-                            } catch (IOException e) {
-                                logger.warn("Could not attach screenshot to Allure report", e);
-                            }
-                        },
-                        () -> logger.warn("Screenshot capture failed; no attachment added")
-                );
+                    // Only the capture happens here; compressing and writing run in the background
+                    CommonUtils.captureScreenshot().ifPresentOrElse(
+                            png -> ArtifactWriter.attachScreenshot("Failure Screenshot",
+                                    "failed_" + System.currentTimeMillis(), png),
+                            () -> logger.warn("Screenshot capture failed; no attachment added")
+                    );
+                }
             } else {
                 logger.info("Scenario PASSED: {}", scenario.getName());
                 Allure.step("Scenario passed");
             }
 
-            // Attach the final URL regardless of outcome
-            try {
-                String currentUrl = BrowserContextManager.getPage().url();
-                Allure.addAttachment("Final URL", "text/plain", currentUrl);
-            } catch (Exception e) {
-                logger.debug("Could not capture final URL during teardown", e);
+            // Attach the final URL and blocked-request counts regardless of outcome
+            if (hasPage) {
+                try {
+                    String currentUrl = BrowserContextManager.getPage().url();
+                    Allure.addAttachment("Final URL", "text/plain", currentUrl);
+                } catch (Exception e) {
+                    logger.debug("Could not capture final URL during teardown", e);
+                }
+                BrowserContextManager.getBlockedRequestSummary().ifPresent(summary -> {
+                    logger.info("Network requests: {}", summary);
+                    Allure.addAttachment("Blocked Requests", "text/plain", summary);
+                });
+            } else {
+                logger.debug("HTTP pool: {}", APIClient.getPoolStats());
+                logger.debug("API resilience: {}", APIClient.getResilienceStats());
+            }
+            long throttledMillis = APIClient.takeThrottledMillis(scenario.getId());
+            if (throttledMillis > 0) {
+                logger.info("API rate limit held requests for {} ms", throttledMillis);
+                Allure.step("API rate limit held requests for " + throttledMillis + " ms");
             }
 
         } catch (Exception e) {
@@ -83,6 +100,10 @@ public class Hooks {
         } finally {
             // Always close browser — also removes ThreadLocals to prevent leaks
             BrowserContextManager.closeBrowser();
+            ScenarioLogAppender.take(scenario.getId()).ifPresent(log ->
+                    Allure.addAttachment("Scenario Log", "text/plain", log, ".log"));
+            ScenarioContext.unbind();
+            ConfigManager.unbindEnvironment();
         }
     }
 }
@@ -1,10 +1,13 @@
 package com.qa.stepdefs;
 
+import java.util.Optional;
+
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.junit.Assert;
 
 import com.qa.pages.LoginPage;
+import com.qa.utils.AuthStateCache;
 import com.qa.utils.BrowserContextManager;
 import com.qa.utils.ConfigManager;
 import com.qa.utils.TestConstants;
@@ -30,6 +33,35 @@ public class LoginStepDefinitions {
         logger.info("Navigated to login page");
     }
 
+    /**
+     * Start the scenario signed in as the given user. Reuses a cached storage
+     * state when one is available and still accepted by the application;
+     * otherwise logs in through the UI once and caches the resulting session.
+     */
+    @Given("User is logged in as {string}")
+    @Step("Log in as {username}")
+    public void user_is_logged_in_as(String username) {
+        Optional<String> cachedState = AuthStateCache.get(username);
+        if (cachedState.isPresent()) {
+            BrowserContextManager.useStorageState(cachedState.get());
+            loginPage = new LoginPage();
+            loginPage.navigateTo(productsPageURL());
+            if (loginPage.isSessionAuthenticated()) {
+                logger.info("Logged in as '{}' from cached session", username);
+                return;
+            }
+            logger.warn("Cached session for '{}' was rejected; logging in through the UI", username);
+            AuthStateCache.invalidate(username);
+        }
+
+        loginPage = new LoginPage();
+        loginPage.navigateTo(ConfigManager.getBaseURL());
+        loginPage.login(username, TestConstants.TestUsers.passwordFor(username));
+        loginPage.waitForElement(TestConstants.Selectors.PRODUCTS_CONTAINER);
+        AuthStateCache.put(username, BrowserContextManager.captureStorageState());
+        logger.info("Logged in as '{}' through the UI", username);
+    }
+
     @When("User enters username {string}")
     @Step("Enter username: {username}")
     public void user_enters_username(String username) {
@@ -130,4 +162,12 @@ public class LoginStepDefinitions {
     public void user_should_be_redirected_to_login_page() {
         user_should_see_the_login_page();
     }
+
+    // -------------------------------------------------------------------------
+    // Helpers
+    // -------------------------------------------------------------------------
+
+    private static String productsPageURL() {
+        return ConfigManager.getBaseURL().replaceAll("/+$", "") + TestConstants.URLPaths.PRODUCTS_PAGE;
+    }
 }
@@ -6,6 +6,22 @@ Feature: API Testing for User Management
     Then The response status code should be 200
     And The response body should not be empty
 
+  @regression @api
+  Scenario: GET users list maps onto typed user records
+    When I fetch "/users" as a list of users
+    Then Every user should have an id, username and email
+
+  @regression @api
+  Scenario Outline: Stream every user page by page using <style> pagination
+    When I stream "/users" in pages of 3 using <style> pagination
+    Then Every streamed record field "email" should not be null
+    And 10 records should have been streamed
+
+    Examples:
+      | style |
+      | page  |
+      | link  |
+
   @regression @api
   Scenario: POST creates a new user and returns the created resource
     When I make a POST request to "/users" with body:
@@ -16,6 +32,24 @@ Feature: API Testing for User Management
     And The response body should not be empty
     And The response body field "id" should not be null
 
+  @regression @api
+  Scenario: GET a single user returns the expected profile
+    When I make a GET request to "/users/1"
+    Then The response status code should be 200
+    And The response body fields should match:
+      | id           | 1                 |
+      | username     | Bret              |
+      | email        | Sincere@april.biz |
+      | address.city | Gwenborough       |
+      | company.name | Romaguera-Crona   |
+
+  @regression @api
+  Scenario: POST creates a user with unique data from a templated fixture
+    When I make a POST request to "/users" with fixture "api-users-unique"
+    Then The response status code should be 201
+    And The response body field "id" should not be null
+    And The response body field "role" should equal "user"
+
   @regression @api
   Scenario: PUT updates an existing user and returns the updated resource
     When I make a PUT request to "/users/1" with body:
@@ -27,3 +61,14 @@ Feature: API Testing for User Management
   Scenario: DELETE an existing user returns success status
     When I make a DELETE request to "/users/1"
     Then The response status code should be 200
+
+  @regression @api
+  Scenario: GET several users in parallel returns every user
+    When I make parallel GET requests to:
+      | /users/1 |
+      | /users/2 |
+      | /users/3 |
+      | /users/4 |
+      | /users/5 |
+    Then Every response status code should be 200
+    And Every response body field "id" should not be null
@@ -1,9 +1,7 @@
 Feature: Product Shopping and Cart Management
 
   Background:
-    Given User navigates to the login page
-    When User logs in with credentials "standard_user" and "secret_sauce"
-    Then User should see the products page
+    Given User is logged in as "standard_user"
     And User is on the products page
 
   # ============ ADD TO CART ============